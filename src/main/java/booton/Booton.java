@@ -14,7 +14,7 @@ import java.net.ServerSocket;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.eclipse.jetty.server.Server;
@@ -25,6 +25,7 @@ import booton.live.LiveCoding;
 import booton.live.LiveCodingServlet;
 import booton.live.ResourceServlet;
 import booton.translator.Javascript;
+import booton.translator.StaticStyleCompiler;
 import booton.translator.Translator;
 import booton.util.HTMLWriter;
 import jsx.debug.Profile;
@@ -52,6 +53,12 @@ public class Booton {
     /** The javascript file. */
     private Path js;
 
+    /** The style sheet file. */
+    private Path css;
+
+    /** The classes which are written in the latest build. */
+    private Set<Class> defined = new LinkedHashSet();
+
     /**
      * <p>
      * Booton web application builder.
@@ -80,6 +87,15 @@ public class Booton {
      * @param port
      */
     public void launch() {
+        // live coding script and hot patches use the methods and metadata which are not reachable
+        // from the application, so tree shaking and metadata pruning are disabled
+        config.shaking = false;
+        config.pruning = false;
+
+        // hot patches may override the devirtualized or inlined methods
+        config.devirtualization = false;
+        config.inlining = false;
+
         if (requireServer()) {
             try {
                 ServletContextHandler handler = new ServletContextHandler();
@@ -89,6 +105,10 @@ public class Booton {
                 Server server = new Server(config.port);
                 server.setHandler(handler);
                 server.start();
+
+                if (config.incremental) {
+                    new IncrementalBuilder(this).start();
+                }
             } catch (Exception e) {
                 throw I.quiet(e);
             }
@@ -135,6 +155,7 @@ public class Booton {
 
         this.html = root.resolve("application.html");
         this.js = root.resolve("application.js");
+        this.css = root.resolve("application.css");
 
         BootonLog.LoadLibrary.start(() -> {
             // load booton extensions
@@ -155,14 +176,8 @@ public class Booton {
             // build html file
             buildHTML();
 
-            Set set = new HashSet();
-
             // build js file
-            Javascript.getScript(application).writeTo(js, set);
-
-            // Don't build live coding script out of build process, because all scripts must share
-            // compiled and obfuscated class information.
-            Javascript.getScript(LiveCoding.class).writeTo(root.resolve("live.js"), set);
+            buildScript();
         } catch (Exception e) {
             e.printStackTrace(System.out);
         } finally {
@@ -173,6 +188,94 @@ public class Booton {
         }
     }
 
+    /**
+     * <p>
+     * Rebuild application incrementally. The specified classes are translated again and the
+     * changed class definitions are pushed to all live coding clients.
+     * </p>
+     * 
+     * @param changed A set of changed classes.
+     */
+    synchronized void rebuild(Set<Class> changed) {
+        try {
+            StringBuilder patch = new StringBuilder();
+
+            // recompile the changed classes only
+            for (Class clazz : changed) {
+                String code = Javascript.recompile(clazz);
+
+                if (code != null) {
+                    patch.append(redefine(code));
+                }
+            }
+
+            // rewrite js file, the other classes reuse the compiled code
+            Set<Class> previous = defined;
+            buildScript();
+
+            // the new dependencies must be defined before redefinition
+            StringBuilder additions = new StringBuilder();
+
+            for (Class clazz : defined) {
+                if (!previous.contains(clazz)) {
+                    additions.append(Javascript.getScript(clazz).getCode());
+                }
+            }
+
+            if (additions.length() != 0 || patch.length() != 0) {
+                LiveCodingServlet.broadcast(LiveCoding.Patch + additions + patch);
+            }
+        } catch (Throwable e) {
+            e.printStackTrace(System.out);
+
+            // fall back to full build and reload
+            build();
+            LiveCodingServlet.broadcast(config.root.relativize(js).toString());
+        }
+    }
+
+    /**
+     * <p>
+     * Convert the compiled class definition into the redefinition for live coding.
+     * </p>
+     *
+     * @param code A compiled class definition.
+     * @return A redefinition patch.
+     */
+    static String redefine(String code) {
+        int index = code.indexOf("boot.define(");
+
+        if (index == -1) {
+            return code;
+        }
+        return code.substring(0, index) + "boot.redefine(" + code.substring(index + 12);
+    }
+
+    /**
+     * <p>
+     * Build js files.
+     * </p>
+     */
+    private void buildScript() {
+        Set<Class> set = new LinkedHashSet();
+
+        // build js file
+        Javascript.getScript(application).writeTo(js, set);
+
+        // Don't build live coding script out of build process, because all scripts must share
+        // compiled and obfuscated class information. The shaken application doesn't have all
+        // methods and metadata which are required by live coding, and the devirtualized
+        // application assumes that no class is added.
+        if (!config.shaking && !config.pruning && !config.devirtualization) {
+            Javascript.getScript(LiveCoding.class).writeTo(config.root.resolve("live.js"), set);
+        }
+
+        // build css file from the statically declared styles
+        StaticStyleCompiler.write(css);
+
+        defined = set;
+    }
+
     /**
      * <p>
      * Build html file.
@@ -186,6 +289,7 @@ public class Booton {
         head.child("meta").attr("charset", "utf-8");
         head.child("link").attr("type", "text/css").attr("rel", "stylesheet").attr("href", "normalize.css");
         head.child("style");
+        head.child("link").attr("type", "text/css").attr("rel", "stylesheet").attr("href", config.root.relativize(css));
 
         XML body = html.child("body");
         body.child("header").attr("id", "Header");
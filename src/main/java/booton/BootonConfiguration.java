@@ -37,6 +37,37 @@ public class BootonConfiguration {
     /** The port of live coding server. */
     public int port = 10021;
 
+    /** The parallel compilation flag. */
+    public boolean parallel = false;
+
+    /** The incremental rebuild flag for live coding. */
+    public boolean incremental = false;
+
+    /** The tree shaking flag which removes the unreachable methods from the output. */
+    public boolean shaking = false;
+
+    /** The pruning flag which removes the member metadata of the classes not used reflectively. */
+    public boolean pruning = false;
+
+    /** The two-pass naming flag which gives the shortest names to the most referenced identifiers. */
+    public boolean ranking = false;
+
+    /** The streaming flag which writes each class to the output as soon as it is compiled. */
+    public boolean streaming = false;
+
+    /** The inlining flag which substitutes the trivial accessor (getter, setter and constant) at the call site. */
+    public boolean inlining = false;
+
+    /**
+     * The devirtualization flag which analyzes the class hierarchy of the whole program and inlines
+     * the monomorphic virtual accessor. This requires the inlining and the two-pass build, and the
+     * other script (e.g. live coding) is never written with the devirtualized application.
+     */
+    public boolean devirtualization = false;
+
+    /** The directory of persistent compiled code cache, <code>null</code> disables it. */
+    public Path cache;
+
     /**
      * <p>
      * Validate this configuration.
@@ -49,11 +80,22 @@ public class BootonConfiguration {
             port = config.port;
             theme = config.theme;
             compression = config.compression;
+            parallel = config.parallel;
+            incremental = config.incremental;
+            shaking = config.shaking;
+            pruning = config.pruning;
+            ranking = config.ranking;
+            streaming = config.streaming;
+            inlining = config.inlining;
+            devirtualization = config.devirtualization;
+            cache = config.cache;
         }
 
         validatePort();
         validateRoot();
         validateTheme();
+        validateCache();
+        validateDevirtualization();
     }
 
     /**
@@ -108,4 +150,26 @@ public class BootonConfiguration {
             theme = ApplicationTheme.class;
         }
     }
+
+    /**
+     * <p>
+     * Validate the devirtualization.
+     * </p>
+     */
+    private void validateDevirtualization() {
+        if (devirtualization) {
+            inlining = true;
+        }
+    }
+
+    /**
+     * <p>
+     * Validate the directory of compiled code cache.
+     * </p>
+     */
+    private void validateCache() {
+        if (cache != null && !cache.isAbsolute()) {
+            cache = root.resolve(cache);
+        }
+    }
 }
@@ -18,7 +18,7 @@ import psychopath.Locator;
 
 public enum BootonLog implements Profile<Class, Object, Object> {
 
-    RunTest1, RunTestAsJava, ParseTest1, RunTestMethod1, RunTest2, ParseTest2, RunTestMethod2, JavascriptConstructor, WriteTo, WriteJS, WriteSuperClass, WriteInterface, WriteJSActually, WriteDependency, Compile, PraseByteCode, CompileAnnotation, LoadLibrary;
+    RunTest1, RunTestAsJava, ParseTest1, RunTestMethod1, RunTest2, ParseTest2, RunTestMethod2, JavascriptConstructor, WriteTo, WriteJS, WriteSuperClass, WriteInterface, WriteJSActually, WriteDependency, Compile, CompileParallel, PraseByteCode, CompileAnnotation, LoadLibrary;
 
     /**
      * {@inheritDoc}
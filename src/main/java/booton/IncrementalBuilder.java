@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import kiss.I;
+
+/**
+ * <p>
+ * Observe the class directories on classpath and rebuild the changed classes only. The class
+ * files which are written in a short period (e.g. IDE save) are collected into one rebuild.
+ * </p>
+ *
+ * @version 2026/10/17 14:02:37
+ */
+class IncrementalBuilder extends Thread {
+
+    /** The quiet period to collect the changed class files. */
+    private static final long Debounce = 300;
+
+    /** The target builder. */
+    private final Booton booton;
+
+    /** The observed directory and its classpath root. */
+    private final Map<WatchKey, Path[]> keys = new HashMap();
+
+    /** The file system observer. */
+    private final WatchService service;
+
+    /**
+     * @param booton A target builder.
+     */
+    IncrementalBuilder(Booton booton) {
+        super("Booton Incremental Builder");
+        setDaemon(true);
+
+        this.booton = booton;
+
+        try {
+            this.service = Paths.get("").getFileSystem().newWatchService();
+
+            for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                Path root = Paths.get(entry).toAbsolutePath();
+
+                if (Files.isDirectory(root)) {
+                    register(root, root);
+                }
+            }
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Set<Class> changed = new LinkedHashSet();
+
+                // wait the first modification
+                WatchKey key = service.take();
+
+                // collect the following modifications until quiet
+                while (key != null) {
+                    collect(key, changed);
+                    key = service.poll(Debounce, TimeUnit.MILLISECONDS);
+                }
+
+                if (!changed.isEmpty()) {
+                    booton.rebuild(changed);
+                }
+            }
+        } catch (InterruptedException e) {
+            // stop observation
+        }
+    }
+
+    /**
+     * <p>
+     * Collect the changed classes.
+     * </p>
+     *
+     * @param key A signaled key.
+     * @param changed A container of changed classes.
+     */
+    private void collect(WatchKey key, Set<Class> changed) {
+        Path[] paths = keys.get(key);
+
+        for (WatchEvent event : key.pollEvents()) {
+            if (paths == null || event.kind() == OVERFLOW) {
+                continue;
+            }
+
+            Path path = paths[0].resolve((Path) event.context());
+
+            if (Files.isDirectory(path)) {
+                if (event.kind() == ENTRY_CREATE) {
+                    register(paths[1], path);
+                }
+            } else if (event.kind() != ENTRY_DELETE) {
+                String name = paths[1].relativize(path).toString();
+
+                if (name.endsWith(".class")) {
+                    name = name.substring(0, name.length() - 6).replace(File.separatorChar, '.');
+
+                    try {
+                        changed.add(Class.forName(name));
+                    } catch (Throwable e) {
+                        // ignore unloadable class
+                    }
+                }
+            }
+        }
+
+        if (!key.reset()) {
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * <p>
+     * Observe the specified directory and its sub directories.
+     * </p>
+     *
+     * @param root A classpath root.
+     * @param directory A target directory.
+     */
+    private void register(Path root, Path directory) {
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    keys.put(dir.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), new Path[] {dir, root});
+
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+    }
+}
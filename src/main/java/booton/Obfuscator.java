@@ -9,9 +9,14 @@
  */
 package booton;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
 
 import booton.translator.UnsafeWordCalculator;
 
@@ -51,7 +56,13 @@ public class Obfuscator {
     }
 
     /** The class id for css. */
-    private static final Map<String, String> css = new HashMap();
+    private static final Map<String, String> css = new ConcurrentHashMap();
+
+    /** The reference count for each css. */
+    private static final Map<String, Integer> cssReferences = new ConcurrentHashMap();
+
+    /** The css in order of name assignment. */
+    private static final List<String> cssOrder = new ArrayList();
 
     /**
      * <p>
@@ -61,16 +72,106 @@ public class Obfuscator {
      * @param clazz A class with fully qualified class name(e.g. java.lang.String).
      * @return An identified class name for ECMAScript.
      */
-    public static final String computeCSSName(String style) {
+    public static final synchronized String computeCSSName(String style) {
+        cssReferences.merge(style, 1, Integer::sum);
+
+        return findCSSName(style);
+    }
+
+    /**
+     * <p>
+     * Find the identified qualified class name for CSS without counting the reference. The new name
+     * is assigned if the specified CSS is unknown.
+     * </p>
+     * 
+     * @param style A fully qualified CSS name.
+     * @return An identified class name for ECMAScript.
+     */
+    public static final synchronized String findCSSName(String style) {
         String name = css.get(style);
 
         if (name == null) {
             name = mung52(css.size());
             css.put(style, name);
+            cssOrder.add(style);
         }
         return name;
     }
 
+    /**
+     * <p>
+     * List all known CSS in order of name assignment.
+     * </p>
+     * 
+     * @return A list of CSS.
+     */
+    public static final synchronized List<String> exportCSSNames() {
+        return new ArrayList(cssOrder);
+    }
+
+    /**
+     * <p>
+     * Restore the CSS names which are assigned in the previous build. This method must be called
+     * before any name is assigned.
+     * </p>
+     * 
+     * @param styles A list of CSS in order of name assignment.
+     */
+    public static final synchronized void importCSSNames(List<String> styles) {
+        for (String style : styles) {
+            if (!css.containsKey(style)) {
+                css.put(style, mung52(css.size()));
+                cssOrder.add(style);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Reassign the CSS names which are assigned after the specified order in alphabetical order of
+     * CSS, so the names don't depend on the order of assignment.
+     * </p>
+     * 
+     * @param from The first order to reassign.
+     * @return <code>true</code> if some name is changed.
+     */
+    public static final synchronized boolean sortCSSNames(int from) {
+        List<String> styles = new ArrayList(cssOrder.subList(Math.min(from, cssOrder.size()), cssOrder.size()));
+        List<String> sorted = new ArrayList(styles);
+        sorted.sort(Comparator.naturalOrder());
+
+        if (sorted.equals(styles)) {
+            return false;
+        }
+
+        for (int i = 0; i < sorted.size(); i++) {
+            String style = sorted.get(i);
+
+            css.put(style, mung52(from + i));
+            cssOrder.set(from + i, style);
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     * Reassign all known CSS names in order of reference frequency. The most referenced style gets
+     * the shortest name. The names which are already handed out become invalid.
+     * </p>
+     */
+    public static final synchronized void rankCSSNames() {
+        List<String> styles = new ArrayList(cssReferences.keySet());
+        styles.sort(Comparator.<String> comparingInt(cssReferences::get).reversed().thenComparing(css::get));
+
+        css.clear();
+        cssOrder.clear();
+
+        for (String style : styles) {
+            css.put(style, mung52(css.size()));
+            cssOrder.add(style);
+        }
+    }
+
     /**
      * <p>
      * Convert the specified number to an munged alphabetical hex number expression ('a' to 'p').
@@ -81,6 +182,7 @@ public class Obfuscator {
      * @return A munged letters.
      */
     public static final String mung16(int number) {
+
         int i = Arrays.binarySearch(unsafe, number);
 
         if (i < 0) {
@@ -173,4 +275,66 @@ public class Obfuscator {
 
         return new String(buffer, index, (buffer.length - index));
     }
+
+    /**
+     * <p>
+     * The frequency-ranked ordinal mapping. The ordinals are permutated in order of reference
+     * frequency, so the most referenced member gets the smallest number (the shortest munged name).
+     * The ordinal which is not ranked is mapped to itself.
+     * </p>
+     * 
+     * @version 2026/10/17 16:05:22
+     */
+    public static class Ranking {
+
+        /** The ranked numbers for each ordinal. */
+        private int[] ranks = new int[0];
+
+        /**
+         * <p>
+         * Retrieve the ranked number of the specified ordinal.
+         * </p>
+         * 
+         * @param ordinal An ordinal.
+         * @return A ranked number.
+         */
+        public synchronized int map(int ordinal) {
+            return ordinal < ranks.length ? ranks[ordinal] : ordinal;
+        }
+
+        /**
+         * <p>
+         * Rank all ordinals under the specified size.
+         * </p>
+         * 
+         * @param size The number of ordinals.
+         * @param frequency The reference frequency of ordinal.
+         * @param fixed The ordinal which must keep its own number.
+         */
+        public synchronized void rank(int size, IntUnaryOperator frequency, IntPredicate fixed) {
+            List<Integer> movables = new ArrayList();
+
+            for (int i = 0; i < size; i++) {
+                if (!fixed.test(i)) {
+                    movables.add(i);
+                }
+            }
+
+            // the free numbers in ascending order
+            List<Integer> numbers = new ArrayList(movables);
+
+            // the most referenced first, the original order is kept on tie
+            movables.sort(Comparator.<Integer> comparingInt(frequency::applyAsInt).reversed().thenComparingInt(Integer::intValue));
+
+            ranks = new int[size];
+
+            for (int i = 0; i < size; i++) {
+                ranks[i] = i;
+            }
+
+            for (int i = 0; i < movables.size(); i++) {
+                ranks[movables.get(i)] = numbers.get(i);
+            }
+        }
+    }
 }
@@ -25,6 +25,9 @@ import js.net.NativeWebSocket.Listener;
  */
 public class LiveCoding implements UncaughtExceptionHandler, Listener {
 
+    /** The message prefix of incremental class definitions. */
+    public static final String Patch = "patch\n";
+
     /** The status of server connection. */
     private boolean open = false;
 
@@ -108,7 +111,10 @@ public class LiveCoding implements UncaughtExceptionHandler, Listener {
      */
     @Override
     public void message(String src) {
-        if (src.endsWith(".css")) {
+        if (src.startsWith(Patch)) {
+            // redefine the changed classes without reloading
+            eval(src.substring(Patch.length()));
+        } else if (src.endsWith(".css")) {
             document.querySelector("link[href^='" + src + "']").attr("href", src + "?" + new Date().getTime());
         } else {
             window.location.reload(false);
@@ -17,6 +17,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.jetty.websocket.api.Session;
 import org.eclipse.jetty.websocket.api.UpgradeRequest;
@@ -38,6 +40,22 @@ import psychopath.Locator;
 @SuppressWarnings("serial")
 public class LiveCodingServlet extends WebSocketServlet {
 
+    /** The connected clients. */
+    private static final Set<LiveCoder> coders = new CopyOnWriteArraySet();
+
+    /**
+     * <p>
+     * Send the specified message to all connected clients.
+     * </p>
+     * 
+     * @param message A message to send.
+     */
+    public static void broadcast(String message) {
+        for (LiveCoder coder : coders) {
+            coder.send(message);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -78,6 +96,7 @@ public class LiveCodingServlet extends WebSocketServlet {
             System.out.println("CONNECT [" + agent + "]");
 
             this.session = session;
+            coders.add(this);
 
             // observe html
             Signal<WatchEvent<Location>> observable = Locator.file(html).observe();
@@ -88,11 +107,19 @@ public class LiveCodingServlet extends WebSocketServlet {
             for (XML js : xml.find("script[src]")) {
                 String src = js.attr("src");
 
+                // incremental builder pushes the changed classes by itself
+                if (config.incremental && src.endsWith(".js")) {
+                    continue;
+                }
+
                 if (src.length() != 0 && !src.startsWith("http://") && !src.startsWith("https://")) {
                     observable = observable.merge(observeFile(src));
                 }
             }
-            observable = observable.merge(observeFile("live.js"));
+
+            if (!config.incremental) {
+                observable = observable.merge(observeFile("live.js"));
+            }
 
             // observe css
             for (XML css : xml.find("link[rel=stylesheet]")) {
@@ -118,6 +145,7 @@ public class LiveCodingServlet extends WebSocketServlet {
         public void onWebSocketClose(int statusCode, String reason) {
             System.out.println("DISCONNECT [" + agent + "]");
 
+            coders.remove(this);
             session = null;
             sources.dispose();
             sources = null;
@@ -160,6 +188,12 @@ public class LiveCodingServlet extends WebSocketServlet {
          * @param message
          */
         private void send(String message) {
+            Session session = this.session;
+
+            if (session == null) {
+                return;
+            }
+
             try {
                 session.getRemote().sendString(message);
             } catch (IOException e) {
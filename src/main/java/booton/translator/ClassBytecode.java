@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.objectweb.asm.ClassReader;
+
+import kiss.I;
+
+/**
+ * <p>
+ * The shared repository of the parsed class file. The bytes of each class are loaded only once and
+ * the parsed {@link ClassReader} is reused by all translator passes (class compilation, method
+ * inlining and so on). {@link ClassReader} is immutable while visiting, so it can be shared between
+ * the compiler threads.
+ * </p>
+ * <p>
+ * The repository holds the recently used classes only to bound the memory usage of the large
+ * build. The modified time of the class file is checked on each access, so the changed class file
+ * (e.g. live coding) is parsed again.
+ * </p>
+ *
+ * @version 2026/10/17 22:14:05
+ */
+class ClassBytecode {
+
+    /** The maximum number of the cached classes. */
+    private static final int Capacity = 256;
+
+    /** The parsed classes in order of access. */
+    private static final Map<Class, Parsed> readers = new LinkedHashMap<Class, Parsed>(Capacity, 0.75f, true) {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean removeEldestEntry(Entry<Class, Parsed> eldest) {
+            return Capacity < size();
+        }
+    };
+
+    /**
+     * <p>
+     * Hide constructor.
+     * </p>
+     */
+    private ClassBytecode() {
+    }
+
+    /**
+     * <p>
+     * Find the parsed class file of the specified class.
+     * </p>
+     *
+     * @param source A target class.
+     * @return A parsed class file.
+     */
+    static ClassReader read(Class source) {
+        URL url = locate(source);
+        long modified = modified(url);
+
+        synchronized (readers) {
+            Parsed parsed = readers.get(source);
+
+            if (parsed != null && parsed.modified == modified) {
+                return parsed.reader;
+            }
+        }
+
+        // parse class file without lock, the duplicated parsing by other thread is harmless
+        ClassReader reader = new ClassReader(load(url));
+
+        synchronized (readers) {
+            readers.put(source, new Parsed(reader, modified));
+        }
+        return reader;
+    }
+
+    /**
+     * <p>
+     * Discard the parsed class file of the specified class.
+     * </p>
+     *
+     * @param source A target class.
+     */
+    static void evict(Class source) {
+        synchronized (readers) {
+            readers.remove(source);
+        }
+    }
+
+    /**
+     * <p>
+     * Locate the class file of the specified class.
+     * </p>
+     *
+     * @param source A target class.
+     * @return A location of class file.
+     */
+    private static URL locate(Class source) {
+        String name = source.getName().replace('.', '/') + ".class";
+        URL url = ClassLoader.getSystemResource(name);
+
+        if (url == null && source.getClassLoader() != null) {
+            url = source.getClassLoader().getResource(name);
+        }
+
+        if (url == null) {
+            throw I.quiet(new IOException("Class not found [" + source.getName() + "]"));
+        }
+        return url;
+    }
+
+    /**
+     * <p>
+     * Read the modified time of the specified class file. The class file in archive uses the
+     * modified time of the archive.
+     * </p>
+     *
+     * @param url A location of class file.
+     * @return A modified time.
+     */
+    private static long modified(URL url) {
+        try {
+            if (url.getProtocol().equals("file")) {
+                return Files.getLastModifiedTime(Paths.get(url.toURI())).toMillis();
+            }
+
+            URLConnection connection = url.openConnection();
+
+            if (connection instanceof JarURLConnection) {
+                URL archive = ((JarURLConnection) connection).getJarFileURL();
+
+                if (archive.getProtocol().equals("file")) {
+                    return Files.getLastModifiedTime(Paths.get(archive.toURI())).toMillis();
+                }
+            }
+            return connection.getLastModified();
+        } catch (IOException | URISyntaxException e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Load the bytes of the specified class file.
+     * </p>
+     *
+     * @param url A location of class file.
+     * @return A class file.
+     */
+    private static byte[] load(URL url) {
+        try (InputStream input = url.openStream()) {
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * @version 2026/10/18 10:12:40
+     */
+    private static class Parsed {
+
+        /** The parsed class file. */
+        private final ClassReader reader;
+
+        /** The modified time of class file. */
+        private final long modified;
+
+        /**
+         * @param reader The parsed class file.
+         * @param modified The modified time of class file.
+         */
+        private Parsed(ClassReader reader, long modified) {
+            this.reader = reader;
+            this.modified = modified;
+        }
+    }
+}
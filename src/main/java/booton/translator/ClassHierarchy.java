@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.objectweb.asm.Type;
+
+/**
+ * <p>
+ * The class hierarchy analysis over the closed world. The closed world is the set of all scripts
+ * which are compiled in the first pass of the build, so the second pass can treat the virtual
+ * method which is never overridden in the reachable subclasses as monomorphic.
+ * </p>
+ * <p>
+ * The hierarchy is built on the runtime classes, the Java class which is replaced by its API
+ * provider is regarded as the provider class.
+ * </p>
+ *
+ * @version 2026/10/17 23:31:40
+ */
+class ClassHierarchy {
+
+    /** The reachable direct subclasses of each runtime class, <code>null</code> means open world. */
+    private static volatile Map<Class, List<Class>> subclasses;
+
+    /** The analyzed results, the key is method identifier. */
+    private static final Map<String, Boolean> monomorphics = new ConcurrentHashMap();
+
+    /**
+     * <p>
+     * Hide constructor.
+     * </p>
+     */
+    private ClassHierarchy() {
+    }
+
+    /**
+     * <p>
+     * Open the world. The classes which are reachable in the previous build may differ from the
+     * next build, so each build must analyze its own closed world.
+     * </p>
+     */
+    static synchronized void open() {
+        subclasses = null;
+        monomorphics.clear();
+    }
+
+    /**
+     * <p>
+     * Close the world by the specified reachable classes.
+     * </p>
+     *
+     * @param classes All reachable runtime classes.
+     */
+    static synchronized void close(Collection<Class> classes) {
+        Map<Class, List<Class>> map = new HashMap();
+
+        for (Class type : classes) {
+            if (!type.isInterface() && type.getSuperclass() != null) {
+                map.computeIfAbsent(JavaAPIProviders.convert(type.getSuperclass()), key -> new ArrayList()).add(type);
+            }
+        }
+        monomorphics.clear();
+        subclasses = map;
+    }
+
+    /**
+     * <p>
+     * Check whether the specified virtual method is never overridden in the reachable subclasses of
+     * the specified owner class.
+     * </p>
+     *
+     * @param owner A method owner class.
+     * @param name A method name.
+     * @param desc A method description.
+     * @return <code>true</code> if the invocation always calls the same method, <code>false</code>
+     *         if the method is overridden or the world is not closed yet.
+     */
+    static boolean isMonomorphic(Class owner, String name, String desc) {
+        if (subclasses == null || owner.isInterface()) {
+            return false;
+        }
+        return monomorphics.computeIfAbsent(owner.getName() + "#" + name + desc, key -> !isOverridden(JavaAPIProviders
+                .convert(owner), name, desc));
+    }
+
+    /**
+     * <p>
+     * Search the overriding method in the subclasses of the specified class.
+     * </p>
+     *
+     * @param type A runtime class.
+     * @param name A method name.
+     * @param desc A method description.
+     * @return A result.
+     */
+    private static boolean isOverridden(Class type, String name, String desc) {
+        for (Class subclass : subclasses.getOrDefault(type, Collections.emptyList())) {
+            for (Method method : subclass.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+
+                if (!Modifier.isStatic(modifiers) && !Modifier.isPrivate(modifiers) && method.getName().equals(name) && Type
+                        .getMethodDescriptor(method).equals(desc)) {
+                    return true;
+                }
+            }
+
+            if (isOverridden(subclass, name, desc)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,572 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import booton.BootonConfiguration;
+import booton.Obfuscator;
+import kiss.I;
+
+/**
+ * <p>
+ * The content-addressed disk storage of compiled class bodies. The compiled code refers the munged
+ * names of other classes and members, so the member-name tables (class ids, method, constructor and
+ * field orders, CSS names) are persisted together and restored before any script is created. These tables are
+ * append-only, so a cached body stays valid as long as its class bytes, the translator version and
+ * the compression mode are unchanged.
+ * </p>
+ * <p>
+ * The compiled code also depends on the declarations of the required classes (e.g. API provider,
+ * static or not, native or not), so the stored body records the class hash of each dependency and
+ * is discarded when any of them changes.
+ * </p>
+ *
+ * @version 2026/10/17 11:03:18
+ */
+class CompiledCodeStorage {
+
+    /** The file name of member-name tables. */
+    private static final String SymbolFile = "symbols";
+
+    /** The root package of the translator, all classes in it affect the compiled code. */
+    private static final String TranslatorPackage = "booton";
+
+    /** The storage directory, <code>null</code> means that disk storage is disabled. */
+    private final Path directory;
+
+    /** The code compression flag. */
+    private final boolean compression;
+
+    /** The translator version. */
+    private final String version;
+
+    /** The global method order. */
+    final SymbolTable methods = new SymbolTable();
+
+    /** The member-name tables for each class. */
+    private final Map<String, Symbol> symbols = new ConcurrentHashMap();
+
+    /** The class ids which are restored from the disk. */
+    private final Set<Integer> reserved = ConcurrentHashMap.newKeySet();
+
+    /** The generation of member-name tables. */
+    private String generation = UUID.randomUUID().toString();
+
+    /**
+     * @param config A build configuration.
+     */
+    CompiledCodeStorage(BootonConfiguration config) {
+        this.directory = config.cache;
+        this.compression = config.compression;
+        this.version = directory == null ? "" : computeVersion();
+    }
+
+    /**
+     * <p>
+     * Retrieve the member-name table of the specified class.
+     * </p>
+     *
+     * @param clazz A target class.
+     * @return A member-name table.
+     */
+    Symbol symbol(Class clazz) {
+        return symbols.computeIfAbsent(clazz.getName(), Symbol::new);
+    }
+
+    /**
+     * <p>
+     * Check whether the specified class id is already used by the restored table or not.
+     * </p>
+     *
+     * @param id A class id.
+     * @return A result.
+     */
+    boolean isReserved(int id) {
+        return reserved.contains(id);
+    }
+
+    /**
+     * <p>
+     * Find the compiled code from disk, or compile and store it.
+     * </p>
+     *
+     * @param clazz A target class.
+     * @param dependencies The dependencies of the target class.
+     * @param coder A actual compiler.
+     * @return A compiled code.
+     */
+    String find(Class clazz, Set<Class> dependencies, Supplier<String> coder) {
+        String code = load(clazz, dependencies);
+
+        if (code == null) {
+            code = coder.get();
+            save(clazz, dependencies, code);
+        }
+        return code;
+    }
+
+    /**
+     * <p>
+     * Load the stored code of the specified class from disk.
+     * </p>
+     *
+     * @param clazz A target class.
+     * @param dependencies The dependencies of the target class, the stored dependencies are added.
+     * @return A stored code or <code>null</code> if it is not stored or obsolete.
+     */
+    String load(Class clazz, Set<Class> dependencies) {
+        Path file = locate(clazz);
+
+        if (file != null && Files.isRegularFile(file)) {
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                List<Class> classes = new ArrayList();
+                boolean valid = true;
+
+                for (int i = input.readInt(); 0 < i; i--) {
+                    Class dependency = Class.forName(input.readUTF());
+                    classes.add(dependency);
+
+                    // the declaration of dependency is changed
+                    if (!input.readUTF().equals(String.valueOf(hash(dependency)))) {
+                        valid = false;
+                    }
+                }
+
+                if (valid) {
+                    byte[] code = new byte[input.readInt()];
+                    input.readFully(code);
+
+                    dependencies.addAll(classes);
+
+                    return new String(code, StandardCharsets.UTF_8);
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                // broken or obsolete entry, compile it again
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>
+     * Store the compiled code of the specified class to disk.
+     * </p>
+     *
+     * @param clazz A target class.
+     * @param dependencies The dependencies of the target class.
+     * @param code A compiled code.
+     */
+    void save(Class clazz, Set<Class> dependencies, String code) {
+        Path file = locate(clazz);
+
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                output.writeInt(dependencies.size());
+
+                for (Class dependency : dependencies) {
+                    output.writeUTF(dependency.getName());
+                    output.writeUTF(String.valueOf(hash(dependency)));
+                }
+
+                byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Locate the stored code file of the specified class.
+     * </p>
+     *
+     * @param clazz A target class.
+     * @return A file location or <code>null</code> if disk storage is disabled or the class bytes
+     *         are not found.
+     */
+    private Path locate(Class clazz) {
+        if (directory == null) {
+            return null;
+        }
+
+        String hash = hash(clazz);
+
+        return hash == null ? null : directory.resolve(computeKey(hash));
+    }
+
+    /**
+     * <p>
+     * List up all member-name tables.
+     * </p>
+     *
+     * @return A snapshot of member-name tables.
+     */
+    List<Symbol> symbols() {
+        return new ArrayList(symbols.values());
+    }
+
+    /**
+     * <p>
+     * Restore the member-name tables from disk. If the tables are written by the other translator
+     * version or some class changes its field layout, all stored codes are discarded.
+     * </p>
+     */
+    void restore() {
+        if (directory == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(directory);
+
+            Path file = directory.resolve(SymbolFile);
+
+            if (Files.isRegularFile(file)) {
+                try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                    if (input.readUTF().equals(version)) {
+                        generation = input.readUTF();
+
+                        read(input, methods);
+
+                        for (int i = input.readInt(); 0 < i; i--) {
+                            Symbol symbol = new Symbol(input.readUTF());
+                            symbol.id = input.readInt();
+                            read(input, symbol.constructors);
+                            read(input, symbol.fields);
+
+                            symbols.put(symbol.name, symbol);
+                            reserved.add(symbol.id);
+                        }
+
+                        List<String> css = new ArrayList();
+
+                        for (int i = input.readInt(); 0 < i; i--) {
+                            css.add(input.readUTF());
+                        }
+                        Obfuscator.importCSSNames(css);
+                    }
+                }
+
+                if (!validate()) {
+                    clear();
+                }
+            }
+        } catch (IOException e) {
+            clear();
+        }
+    }
+
+    /**
+     * <p>
+     * Store the member-name tables to disk. The storage is best-effort cache, so the failure
+     * doesn't stop the build and only discards the stored tables.
+     * </p>
+     */
+    void store() {
+        if (directory == null) {
+            return;
+        }
+
+        Path file = directory.resolve(SymbolFile);
+        Path temporary = null;
+
+        try {
+            temporary = Files.createTempFile(directory, SymbolFile, ".tmp");
+            write(temporary);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            e.printStackTrace(System.out);
+
+            // the stored codes may refer the unstored names, so the previous tables are invalid
+            try {
+                Files.deleteIfExists(file);
+
+                if (temporary != null) {
+                    Files.deleteIfExists(temporary);
+                }
+            } catch (IOException x) {
+                // ignore
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Write the member-name tables to the specified file.
+     * </p>
+     *
+     * @param file A target file.
+     */
+    private void write(Path file) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeUTF(version);
+            output.writeUTF(generation);
+
+            write(output, methods);
+
+            List<Symbol> list = new ArrayList(symbols.values());
+            output.writeInt(list.size());
+
+            for (Symbol symbol : list) {
+                output.writeUTF(symbol.name);
+                output.writeInt(symbol.id);
+                write(output, symbol.constructors);
+                write(output, symbol.fields);
+            }
+
+            List<String> css = Obfuscator.exportCSSNames();
+            output.writeInt(css.size());
+
+            for (String style : css) {
+                output.writeUTF(style);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Check whether the restored field tables are still consistent with the current classes. The
+     * field table of a subclass starts with its parent's table, so a new field in a parent class
+     * invalidates the whole tables.
+     * </p>
+     *
+     * @return A result.
+     */
+    private boolean validate() {
+        for (Symbol symbol : symbols.values()) {
+            Class clazz;
+
+            try {
+                clazz = Class.forName(symbol.name, false, CompiledCodeStorage.class.getClassLoader());
+            } catch (Throwable e) {
+                // removed class keeps its id reserved
+                continue;
+            }
+
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!symbol.fields.contains(Javascript.computeFieldHash(clazz, field.getName()))) {
+                    return false;
+                }
+            }
+
+            Class parent = clazz.getSuperclass();
+
+            if (parent != null && clazz != Object.class) {
+                Symbol parentSymbol = symbols.get(JavaAPIProviders.convert(parent).getName());
+
+                if (parentSymbol != null && !symbol.fields.startsWith(parentSymbol.fields)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     * Discard all member-name tables and stored codes.
+     * </p>
+     */
+    private void clear() {
+        generation = UUID.randomUUID().toString();
+        methods.clear();
+        symbols.clear();
+        reserved.clear();
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Compute the content address of the specified class.
+     * </p>
+     *
+     * @param hash A class hash of the target class.
+     * @return A computed key.
+     */
+    private String computeKey(String hash) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(version.getBytes(StandardCharsets.UTF_8));
+            digest.update(generation.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) (compression ? 1 : 0));
+            digest.update(hash.getBytes(StandardCharsets.UTF_8));
+
+            return hex(digest.digest());
+        } catch (Exception e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Compute the hash of the class bytes of the specified class.
+     * </p>
+     *
+     * @param clazz A target class.
+     * @return A computed hash or <code>null</code> if the class bytes are not found.
+     */
+    private static String hash(Class clazz) {
+        try (InputStream input = ClassLoader.getSystemResourceAsStream(clazz.getName().replace('.', '/').concat(".class"))) {
+            if (input == null) {
+                return null;
+            }
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(input.readAllBytes());
+
+            return hex(digest.digest());
+        } catch (Exception e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Compute the translator version from the whole code source of translator. The archive is
+     * hashed as it is, the class directory is hashed by all files in the translator package.
+     * </p>
+     *
+     * @return A version.
+     */
+    private static String computeVersion() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            Path source = Paths.get(Javascript.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+
+            if (Files.isDirectory(source)) {
+                List<Path> files;
+
+                try (Stream<Path> stream = Files.walk(source.resolve(TranslatorPackage))) {
+                    files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+                }
+
+                for (Path file : files) {
+                    digest.update(source.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                    digest.update(Files.readAllBytes(file));
+                }
+            } else {
+                digest.update(Files.readAllBytes(source));
+            }
+            return hex(digest.digest());
+        } catch (Exception e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Helper method to write the hexadecimal expression.
+     * </p>
+     *
+     * @param bytes A target bytes.
+     * @return A hexadecimal expression.
+     */
+    private static String hex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+        for (byte value : bytes) {
+            builder.append(Character.forDigit((value >> 4) & 15, 16)).append(Character.forDigit(value & 15, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * <p>
+     * Helper method to read the member order.
+     * </p>
+     */
+    private static void read(DataInputStream input, SymbolTable table) throws IOException {
+        for (int i = input.readInt(); 0 < i; i--) {
+            table.order(input.readInt());
+        }
+    }
+
+    /**
+     * <p>
+     * Helper method to write the member order.
+     * </p>
+     */
+    private static void write(DataOutputStream output, SymbolTable table) throws IOException {
+        int[] ids = table.toArray();
+        output.writeInt(ids.length);
+
+        for (int id : ids) {
+            output.writeInt(id);
+        }
+    }
+
+    /**
+     * <p>
+     * The member-name table of class.
+     * </p>
+     *
+     * @version 2026/10/17 11:03:18
+     */
+    static class Symbol {
+
+        /** The fully qualified class name. */
+        private final String name;
+
+        /** The class id, -1 means unassigned. */
+        int id = -1;
+
+        /** The constructor order. */
+        final SymbolTable constructors = new SymbolTable();
+
+        /** The field order. */
+        final SymbolTable fields = new SymbolTable();
+
+        /**
+         * @param name A fully qualified class name.
+         */
+        private Symbol(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -11,6 +11,7 @@ package booton.translator;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Set;
 
 import kiss.I;
 
@@ -19,8 +20,8 @@ import kiss.I;
  */
 class CompilerRecorder {
 
-    /** The compiling route. */
-    private static Deque<CompilerContext> route = new ArrayDeque();
+    /** The compiling route for each compiling thread. */
+    private static final ThreadLocal<Deque<CompilerContext>> route = ThreadLocal.withInitial(ArrayDeque::new);
 
     /**
      * <p>
@@ -30,13 +31,30 @@ class CompilerRecorder {
      * @param script A target script.
      */
     static void startCompiling(Javascript script) {
-        CompilerContext context = route.peekFirst();
+        CompilerContext context = route.get().peekFirst();
 
         if (context == null || context.script != script) {
-            route.addFirst(new CompilerContext(script));
+            route.get().addFirst(new CompilerContext(script));
         }
     }
 
+    /**
+     * <p>
+     * Record starting method compiling on the forked task. The task has its own context even if
+     * the current thread is compiling the same script, and the dependencies are collected into the
+     * specified container instead of the script.
+     * </p>
+     * 
+     * @param script A target script.
+     * @param dependencies A container of dependencies.
+     */
+    static void startCompiling(Javascript script, Set<Class> dependencies) {
+        CompilerContext context = new CompilerContext(script);
+        context.dependencies = dependencies;
+
+        route.get().addFirst(context);
+    }
+
     /**
      * <p>
      * Record finishing script compiling.
@@ -45,7 +63,7 @@ class CompilerRecorder {
      * @param script A target script.
      */
     static void finishCompiling(Javascript script) {
-        route.pollFirst();
+        route.get().pollFirst();
     }
 
     /**
@@ -56,7 +74,7 @@ class CompilerRecorder {
      * @param method A target method name.
      */
     static void recordMethodName(String method) {
-        CompilerContext context = route.peekFirst();
+        CompilerContext context = route.get().peekFirst();
         context.method = method;
         context.line = 1;
         I.make(Debugger.class).visit(method, context.script.source);
@@ -70,7 +88,7 @@ class CompilerRecorder {
      * @param line
      */
     static void recordMethodLineNumber(int line) {
-        CompilerContext context = route.peekFirst();
+        CompilerContext context = route.get().peekFirst();
 
         if (context.line == 1) {
             context.line = line - 1;
@@ -87,7 +105,7 @@ class CompilerRecorder {
      * @return A enhanced error.
      */
     static TranslationError rethrow(TranslationError error) {
-        for (CompilerContext context : route) {
+        for (CompilerContext context : route.get()) {
             error.write(context);
         }
         return error;
@@ -101,7 +119,18 @@ class CompilerRecorder {
      * @return The current compiling script.
      */
     static Javascript getScript() {
-        return route.peekFirst().script;
+        return route.get().peekFirst().script;
+    }
+
+    /**
+     * <p>
+     * Retrieve the dependency container of the current forked task.
+     * </p>
+     * 
+     * @return A container of dependencies or <code>null</code> if the script collects them.
+     */
+    static Set<Class> getDependencies() {
+        return route.get().peekFirst().dependencies;
     }
 
     /**
@@ -112,7 +141,7 @@ class CompilerRecorder {
      * @return The current compiling script.
      */
     static String getMethodName() {
-        return route.peekFirst().method;
+        return route.get().peekFirst().method;
     }
 
     /**
@@ -123,7 +152,7 @@ class CompilerRecorder {
      * @return The current compiling script.
      */
     static int getMethodLine() {
-        return route.peekFirst().line;
+        return route.get().peekFirst().line;
     }
 
     /**
@@ -134,7 +163,7 @@ class CompilerRecorder {
      * @return The current compiling script.
      */
     static int getLine() {
-        return route.peekFirst().lineNow;
+        return route.get().peekFirst().lineNow;
     }
 
     /**
@@ -154,6 +183,9 @@ class CompilerRecorder {
         /** The current compiling line position. */
         private int lineNow = 1;
 
+        /** The dependency container of the forked task. */
+        private Set<Class> dependencies;
+
         /**
          * @param script An associated script.
          */
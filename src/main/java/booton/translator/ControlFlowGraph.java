@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * The index-based snapshot of the control flow graph which is reachable from the entry node. Each
+ * node is numbered in order of depth-first discovery, and the graph is traversed iteratively with
+ * the explicit stack, so the large method never overflows the call stack.
+ * </p>
+ *
+ * @version 2026/10/17 21:52:37
+ */
+class ControlFlowGraph {
+
+    /** The reachable nodes in order of discovery. */
+    private final List<Node> nodes = new ArrayList();
+
+    /** The discovery index of each node. */
+    private final Map<Node, Integer> index = new IdentityHashMap();
+
+    /** The discovery indices in post order. */
+    private final int[] postorder;
+
+    /**
+     * <p>
+     * Traverse the graph from the specified entry node by depth-first search.
+     * </p>
+     *
+     * @param entry An entry node.
+     * @param recordBackedge <code>true</code> records the edge to the node on the current path as
+     *            backedge.
+     */
+    private ControlFlowGraph(Node entry, boolean recordBackedge) {
+        BitSet path = new BitSet();
+        int[] stack = new int[16];
+        int[] cursors = new int[16];
+        int[] post = new int[16];
+        int depth = 0;
+        int posts = 0;
+
+        stack[depth++] = discover(entry);
+        path.set(0);
+
+        while (depth != 0) {
+            int current = stack[depth - 1];
+            Node node = nodes.get(current);
+
+            if (cursors[depth - 1] < node.outgoing.size()) {
+                Node out = node.outgoing.get(cursors[depth - 1]++);
+                Integer id = index.get(out);
+
+                if (id == null) {
+                    int discovered = discover(out);
+
+                    if (depth == stack.length) {
+                        stack = Arrays.copyOf(stack, depth * 2);
+                        cursors = Arrays.copyOf(cursors, depth * 2);
+                    }
+                    stack[depth] = discovered;
+                    cursors[depth++] = 0;
+                    path.set(discovered);
+                } else if (recordBackedge && path.get(id)) {
+                    out.backedges.addIfAbsent(node);
+                }
+            } else {
+                depth--;
+                path.clear(current);
+
+                if (posts == post.length) {
+                    post = Arrays.copyOf(post, posts * 2);
+                }
+                post[posts++] = current;
+            }
+        }
+        this.postorder = Arrays.copyOf(post, posts);
+    }
+
+    /**
+     * <p>
+     * Number the specified node.
+     * </p>
+     *
+     * @param node A discovered node.
+     * @return A discovery index.
+     */
+    private int discover(Node node) {
+        int id = nodes.size();
+        nodes.add(node);
+        index.put(node, id);
+
+        return id;
+    }
+
+    /**
+     * <p>
+     * Search all backedges which are reachable from the specified entry node. The edge is backedge
+     * when its destination is on the current depth-first path.
+     * </p>
+     *
+     * @param entry An entry node.
+     */
+    static void searchBackedges(Node entry) {
+        new ControlFlowGraph(entry, true);
+    }
+
+    /**
+     * <p>
+     * Compute the immediate dominator of all reachable nodes by the algorithm of Cooper, Harvey
+     * and Kennedy. The backedges are ignored as well as {@link Node#getDominator()}, so the forward
+     * graph is acyclic and one pass in reverse post order is enough. The node which already has
+     * the dominator or has the unreachable incoming node keeps the lazy computation.
+     * </p>
+     *
+     * @param entry An entry node.
+     */
+    static void computeDominators(Node entry) {
+        ControlFlowGraph graph = new ControlFlowGraph(entry, false);
+        int size = graph.nodes.size();
+
+        // the order number in post order of each node
+        int[] order = new int[size];
+
+        for (int i = 0; i < graph.postorder.length; i++) {
+            order[graph.postorder[i]] = i;
+        }
+
+        // the immediate dominator of each node, -1 means undefined
+        int[] dominators = new int[size];
+        Arrays.fill(dominators, -1);
+        dominators[0] = 0;
+
+        for (int i = graph.postorder.length - 2; 0 <= i; i--) {
+            int current = graph.postorder[i];
+            Node node = graph.nodes.get(current);
+            int dominator = -1;
+
+            if (node.dominator != null) {
+                // keep the already computed dominator
+                Integer id = graph.index.get(node.dominator);
+
+                if (id != null && order[current] < order[id]) {
+                    dominator = id;
+                }
+            } else {
+                for (Node in : node.incoming) {
+                    if (!node.backedges.contains(in)) {
+                        Integer id = graph.index.get(in);
+
+                        if (id == null || dominators[id] == -1) {
+                            dominator = -1;
+                            break;
+                        }
+                        dominator = dominator == -1 ? id : intersect(id, dominator, dominators, order);
+                    }
+                }
+
+                if (dominator != -1) {
+                    node.dominator = graph.nodes.get(dominator);
+                }
+            }
+            dominators[current] = dominator;
+        }
+    }
+
+    /**
+     * <p>
+     * Find the nearest common dominator of the specified nodes.
+     * </p>
+     *
+     * @param one A node index.
+     * @param other A node index.
+     * @param dominators The immediate dominators.
+     * @param order The order numbers in post order.
+     * @return A common dominator.
+     */
+    private static int intersect(int one, int other, int[] dominators, int[] order) {
+        while (one != other) {
+            while (order[one] < order[other]) {
+                one = dominators[one];
+            }
+
+            while (order[other] < order[one]) {
+                other = dominators[other];
+            }
+        }
+        return one;
+    }
+}
@@ -38,8 +38,8 @@ public class Debugger extends AnnotationVisitor {
     /** The list for debug patterns. */
     private static final List<Pattern[]> patterns = new ArrayList();
 
-    /** The current debugger. */
-    private static Debugger debugger;
+    /** The current debugger for each compiling thread. */
+    private static final ThreadLocal<Debugger> debugger = new ThreadLocal();
 
     // initialization
     static {
@@ -72,7 +72,7 @@ public class Debugger extends AnnotationVisitor {
         super(ASM9);
 
         // update
-        debugger = this;
+        debugger.set(this);
     }
 
     /**
@@ -113,7 +113,7 @@ public class Debugger extends AnnotationVisitor {
      * @param methodName A method name regex.
      */
     public static void enable() {
-        debugger.enable = true;
+        debugger.get().enable = true;
     }
 
     /**
@@ -132,12 +132,12 @@ public class Debugger extends AnnotationVisitor {
      * @return
      */
     public static boolean isEnable() {
-        if (debugger.enable && debugger.firstTime) {
-            debugger.firstTime = false;
+        if (debugger.get().enable && debugger.get().firstTime) {
+            debugger.get().firstTime = false;
 
             printHeader(false);
         }
-        return debugger.enable;
+        return debugger.get().enable;
     }
 
     /**
@@ -197,7 +197,7 @@ public class Debugger extends AnnotationVisitor {
      * </p>
      */
     public static void printHeader(boolean safe) {
-        debugger.dominatorSafe = safe;
+        debugger.get().dominatorSafe = safe;
 
         if (isEnable()) {
             System.out.println("==== " + link(true) + " ====");
@@ -420,7 +420,7 @@ public class Debugger extends AnnotationVisitor {
      * @return
      */
     private static Node getDominator(Node target) {
-        if (debugger.dominatorSafe) {
+        if (debugger.get().dominatorSafe) {
             return target.getDominator();
         } else {
             return getDominator(target, new HashSet());
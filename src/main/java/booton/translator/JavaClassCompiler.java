@@ -12,19 +12,34 @@ package booton.translator;
 import static booton.translator.Javascript.*;
 import static org.objectweb.asm.Opcodes.*;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
 
+import booton.BootonConfiguration;
+import booton.Necessary;
 import booton.translator.Node.Switch;
+import kiss.I;
 
 /**
  * @version 2013/11/24 22:31:54
  */
 class JavaClassCompiler extends ClassVisitor {
 
+    /** The minimum number of methods which makes the class compile its methods in parallel. */
+    private static final int ParallelThreshold = 32;
+
     /** The java source(byte) code. */
     private final Javascript script;
 
@@ -34,6 +49,15 @@ class JavaClassCompiler extends ClassVisitor {
     /** The local id manager. */
     private final AtomicInteger virtualStructureLocalId = new AtomicInteger();
 
+    /** The local id of the lambda site. */
+    private final AtomicInteger lambdaSiteId = new AtomicInteger();
+
+    /** The method compiling tasks in declaration order, <code>null</code> means sequential. */
+    private final List<MethodTask> tasks;
+
+    /** The name and description of the annotated methods. */
+    private final Set<String> annotated = new HashSet();
+
     /**
      * JavaClassCompiler
      * 
@@ -45,6 +69,18 @@ class JavaClassCompiler extends ClassVisitor {
 
         this.script = script;
         this.code = code;
+
+        Class source = script.source;
+        Method[] methods = source.getDeclaredMethods();
+        boolean parallel = I.make(BootonConfiguration.class).parallel;
+        this.tasks = parallel && ParallelThreshold <= methods.length + source.getDeclaredConstructors().length ? new ArrayList()
+                : null;
+
+        for (Method method : methods) {
+            if (JavaMetadataCompiler.isAnnotated(method)) {
+                annotated.add(method.getName() + Type.getMethodDescriptor(method));
+            }
+        }
     }
 
     /**
@@ -112,15 +148,40 @@ class JavaClassCompiler extends ClassVisitor {
             return null;
         }
 
-        // debug code
-        code.debug(script.source, name, desc);
+        // the method is compiled on the forked task
+        if (tasks != null) {
+            tasks.add(new MethodTask(name, desc, tasks.size()));
+            return null;
+        }
+        return compile(code, access, name, desc, virtualStructureLocalId, lambdaSiteId);
+    }
 
+    /**
+     * <p>
+     * Start compiling the specified method.
+     * </p>
+     * 
+     * @param code A code writer.
+     * @param access A method modifier.
+     * @param name A method name.
+     * @param desc A method description.
+     * @param virtualStructureLocalId The local id of the virtual structure.
+     * @param lambdaSiteId The local id of the lambda site.
+     * @return A method compiler.
+     */
+    private MethodVisitor compile(ScriptWriter code, int access, String name, String desc, AtomicInteger virtualStructureLocalId, AtomicInteger lambdaSiteId) {
         // static modifier
         boolean isStatic = (access & ACC_STATIC) != 0;
 
         // compute method name
         String computed = Javascript.computeMethodName(script.source, name, desc);
 
+        // mark member for tree shaking
+        TreeShaker.startMember(code, computed, isEntryPoint(name, desc, computed));
+
+        // debug code
+        code.debug(script.source, name, desc);
+
         if (isStatic) {
             computed = "_" + computed;
         }
@@ -129,7 +190,27 @@ class JavaClassCompiler extends ClassVisitor {
         CompilerRecorder.recordMethodName(name);
 
         // start compiling method
-        return new JavaMethodCompiler(script, code, computed, desc, isStatic, virtualStructureLocalId);
+        return new JavaMethodCompiler(script, code, computed, desc, isStatic, virtualStructureLocalId, lambdaSiteId);
+    }
+
+    /**
+     * <p>
+     * Check whether the specified method must be kept by tree shaking or not.
+     * </p>
+     * 
+     * @param name A method name.
+     * @param desc A method description.
+     * @param computed A computed method name.
+     * @return A result.
+     */
+    private boolean isEntryPoint(String name, String desc, String computed) {
+        // constructor, static initializer and native method
+        if (name.charAt(0) == '<' || name.equals(computed) || script.source.isAnnotationPresent(Necessary.class)) {
+            return true;
+        }
+
+        // reflective entry point
+        return annotated.contains(name + desc);
     }
 
     /**
@@ -137,6 +218,87 @@ class JavaClassCompiler extends ClassVisitor {
      */
     @Override
     public void visitEnd() {
+        if (tasks != null) {
+            ForkJoinTask.invokeAll(tasks);
+
+            // stitch the compiled methods in declaration order
+            for (MethodTask task : tasks) {
+                code.merge(task.code).flush();
+
+                for (Class dependency : task.dependencies) {
+                    Javascript.require(dependency);
+                }
+            }
+        }
         code.optimize();
     }
+
+    /**
+     * <p>
+     * Compile the specified method into the own code buffer. The compiling context (route, loop
+     * structure and debugger) is thread local, so the task never shares it with other methods.
+     * </p>
+     * 
+     * @version 2026/10/17 22:38:51
+     */
+    @SuppressWarnings("serial")
+    private class MethodTask extends RecursiveAction {
+
+        /** The method name. */
+        private final String name;
+
+        /** The method description. */
+        private final String desc;
+
+        /** The declaration index. */
+        private final int index;
+
+        /** The compiled code. */
+        private final ScriptWriter code = JavaClassCompiler.this.code.fork();
+
+        /** The dependencies of the compiled code. */
+        private final Set<Class> dependencies = new LinkedHashSet();
+
+        /**
+         * @param name A method name.
+         * @param desc A method description.
+         * @param index A declaration index.
+         */
+        private MethodTask(String name, String desc, int index) {
+            this.name = name;
+            this.desc = desc;
+            this.index = index;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            // record compile route
+            CompilerRecorder.startCompiling(script, dependencies);
+
+            try {
+                ClassBytecode.read(script.source).accept(new ClassVisitor(ASM7) {
+
+                    /**
+                     * {@inheritDoc}
+                     */
+                    @Override
+                    public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+                        if (!name.equals(MethodTask.this.name) || !desc.equals(MethodTask.this.desc)) {
+                            return null;
+                        }
+
+                        // the local ids are unique in the class and independent of the task order
+                        int base = index << 16;
+
+                        return compile(code, access, name, desc, new AtomicInteger(base), new AtomicInteger(base));
+                    }
+                }, 0);
+            } finally {
+                CompilerRecorder.finishCompiling(script);
+            }
+        }
+    }
 }
@@ -26,8 +26,10 @@ import java.util.StringJoiner;
 
 import booton.Necessary;
 import booton.Unnecessary;
+import kiss.Extensible;
 import kiss.I;
 
+
 /**
  * @version 2016/09/25 12:07:55
  */
@@ -74,26 +76,65 @@ class JavaMetadataCompiler {
             }
         }
 
-        // methods
+        // methods (metadata itself doesn't make the method reachable)
         for (Method method : clazz.getDeclaredMethods()) {
             if (!TranslatorManager.isIgnorableMethod(method) && !method.isBridge() && !method.isSynthetic()) {
-                elements.add(new MethodMetadata(method));
+                elements.add(TreeShaker.record(new HashSet(), () -> new MethodMetadata(method)));
             }
         }
 
+        // The member metadata of the class which is not used reflectively can be pruned, but
+        // annotated, extensible and necessary classes are always inspected at runtime.
+        boolean prunable = 1 < elements.size() && !isReflective(clazz, elements);
+
         // write metadata
         code.append("{");
         for (int i = 0; i < elements.size(); i++) {
             Metadata metadata = elements.get(i);
+
+            if (i == 1 && prunable) {
+                TreeShaker.startMetadata(code, Javascript.computeSimpleClassName(clazz));
+
+            }
+
+            if (i != 0) {
+                code.separator();
+            }
             code.append(metadata.name, ":", "[");
             metadata.defineMetadata();
             code.append(",");
             metadata.defineAnnotation();
-            code.append("]").separator();
+            code.append("]");
+        }
+
+        if (prunable) {
+            TreeShaker.endMetadata(code);
         }
         code.append("}");
     }
 
+    /**
+     * <p>
+     * Check whether the specified class is always inspected at runtime or not.
+     * </p>
+     * 
+     * @param clazz A target class.
+     * @param elements All metadata of the target class.
+     * @return A result.
+     */
+    private static boolean isReflective(Class clazz, List<Metadata> elements) {
+        if (clazz.isAnnotation() || Extensible.class.isAssignableFrom(clazz) || clazz.isAnnotationPresent(Necessary.class)) {
+            return true;
+        }
+
+        for (Metadata metadata : elements) {
+            if (metadata.isAnnotated()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * <p>
      * Compile annotation value.
@@ -140,6 +181,18 @@ class JavaMetadataCompiler {
         return code.toString();
     }
 
+    /**
+     * <p>
+     * Check whether the specified method has any runtime annotation which is exposed as metadata.
+     * </p>
+     * 
+     * @param method A target method.
+     * @return A result.
+     */
+    static boolean isAnnotated(Method method) {
+        return hasAnnotation(method.getDeclaredAnnotations()) || hasAnnotation(method.getParameterAnnotations());
+    }
+
     /**
      * <p>
      * Cehck whether the spcified annotation set is valid or not.
@@ -149,6 +202,7 @@ class JavaMetadataCompiler {
      * @return
      */
     private static boolean hasAnnotation(Annotation[][] annotations) {
+
         for (Annotation[] list : annotations) {
             if (hasAnnotation(list)) {
                 return true;
@@ -199,6 +253,17 @@ class JavaMetadataCompiler {
          */
         protected abstract void defineMetadata();
 
+        /**
+         * <p>
+         * Check whether this element has any runtime annotation or not.
+         * </p>
+         * 
+         * @return A result.
+         */
+        protected boolean isAnnotated() {
+            return hasAnnotation(element.getDeclaredAnnotations());
+        }
+
         /**
          * 
          */
@@ -424,6 +489,14 @@ class JavaMetadataCompiler {
 
             writeAnnotation(method.getParameterAnnotations());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean isAnnotated() {
+            return JavaMetadataCompiler.isAnnotated(method);
+        }
     }
 
     /**
@@ -462,5 +535,14 @@ class JavaMetadataCompiler {
 
             writeAnnotation(constructor.getParameterAnnotations());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean isAnnotated() {
+            return super.isAnnotated() || hasAnnotation(constructor.getParameterAnnotations());
+        }
+
     }
 }
@@ -18,9 +18,7 @@ import static org.objectweb.asm.Type.*;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,7 +36,9 @@ import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
+import booton.BootonConfiguration;
 import booton.Obfuscator;
+import booton.translator.JavaMethodInliner.Accessor;
 import booton.translator.Node.Switch;
 import booton.translator.Node.TryCatchFinallyBlocks;
 import js.lang.NativeObject;
@@ -254,6 +254,12 @@ class JavaMethodCompiler extends MethodVisitor {
     /** The local id of the virtual structure. */
     private AtomicInteger virtualStructureLocalId;
 
+    /** The local id of the lambda site. */
+    private AtomicInteger lambdaSiteId;
+
+    /** The flag whether the trivial accessor is inlined or not. */
+    private final boolean inlining = I.make(BootonConfiguration.class).inlining;
+
     /**
      * @param script A target script to compile.
      * @param code A code writer.
@@ -261,7 +267,7 @@ class JavaMethodCompiler extends MethodVisitor {
      * @param description A method description.
      * @param isStatic A static flag.
      */
-    JavaMethodCompiler(Javascript script, ScriptWriter code, String name, String description, boolean isStatic, AtomicInteger virtualStructureLocalId) {
+    JavaMethodCompiler(Javascript script, ScriptWriter code, String name, String description, boolean isStatic, AtomicInteger virtualStructureLocalId, AtomicInteger lambdaSiteId) {
         super(ASM5);
 
         this.script = script;
@@ -271,6 +277,7 @@ class JavaMethodCompiler extends MethodVisitor {
         this.parameterTypes = Type.getArgumentTypes(description);
         this.variables = new LocalVariables(isStatic);
         this.virtualStructureLocalId = virtualStructureLocalId;
+        this.lambdaSiteId = lambdaSiteId;
 
         Type[] parameters = Type.getArgumentTypes(description);
 
@@ -338,7 +345,7 @@ class JavaMethodCompiler extends MethodVisitor {
         }
 
         // Search all backedge nodes.
-        searchBackEdge(nodes.get(0), new ArrayDeque());
+        ControlFlowGraph.searchBackedges(nodes.get(0));
 
         // Resoleve all string switch blocks
         for (Node node : nodes) {
@@ -350,6 +357,8 @@ class JavaMethodCompiler extends MethodVisitor {
         }
 
         // Build dominator tree
+        ControlFlowGraph.computeDominators(nodes.get(0));
+
         for (Node node : nodes) {
             Node dominator = node.getDominator();
 
@@ -374,7 +383,20 @@ class JavaMethodCompiler extends MethodVisitor {
             nodes.get(0).write(code);
             code.optimize();
             code.append('}'); // method end
+
+            if (methodName.charAt(0) == '$') {
+                // write the factory which instantiates by this constructor directly
+                StringJoiner params = new StringJoiner(",");
+
+                for (int i = 0; i < parameterTypes.length; i++) {
+                    params.add("p" + i);
+                }
+                code.separator();
+                code.append("_", methodName, ":function(", params, "){var o=new this;o.", methodName, "(", params, ");return o}");
+            }
+            TreeShaker.endMember(code);
             code.separator();
+
         } catch (Exception e) {
             TranslationError error = new TranslationError(e);
             error.write("Can't compile method because");
@@ -385,31 +407,9 @@ class JavaMethodCompiler extends MethodVisitor {
         }
 
         Debugger.print(code.toFragment());
-    }
-
-    /**
-     * <p>
-     * Helper method to search all backedge nodes using depth-first search.
-     * </p>
-     * 
-     * @param node A target node to check.
-     * @param recorder All passed nodes.
-     */
-    private final void searchBackEdge(Node node, Deque<Node> recorder) {
-        // Store the current processing node.
-        recorder.add(node);
-
-        // Step into outgoing nodes.
-        for (Node out : node.outgoing) {
-            if (recorder.contains(out)) {
-                out.backedges.addIfAbsent(node);
-            } else {
-                searchBackEdge(out, recorder);
-            }
-        }
 
-        // Remove the current processing node.
-        recorder.pollLast();
+        // the finished method can be streamed out
+        code.flush();
     }
 
     /**
@@ -812,7 +812,7 @@ class JavaMethodCompiler extends MethodVisitor {
             current.addOperand(ZERO);
             break;
         case LCONST_0:
-            current.addOperand(Javascript.writePrimitiveCode(0));
+            current.addOperand(OperandLong.of(0));
             break;
 
         // 1
@@ -822,7 +822,7 @@ class JavaMethodCompiler extends MethodVisitor {
             current.addOperand(ONE);
             break;
         case LCONST_1:
-            current.addOperand(Javascript.writePrimitiveCode(1));
+            current.addOperand(OperandLong.of(1));
             break;
 
         // 2
@@ -1118,7 +1118,12 @@ class JavaMethodCompiler extends MethodVisitor {
 
         case I2L:
             // cast int to long
-            current.addOperand(writeLongMethod("fromInt", current.remove(0)));
+            if (current.peek(0).infer().type() == char.class) {
+                current.addOperand(writeLongMethod("fromInt", current.remove(0)));
+            } else {
+                // int value is exact number, so we can compute it without primitive long
+                current.addOperand(OperandLong.of(current.remove(0)));
+            }
             break;
 
         case L2D:
@@ -1142,10 +1147,94 @@ class JavaMethodCompiler extends MethodVisitor {
      * @return A operation code.
      */
     private final Operand operateLong(String operator) {
+        Operand exact = operateExactLong(operator);
+
+        if (exact != null) {
+            return exact;
+        }
+
         String operation = writeLongMethod(operator, null);
         return new OperandExpression(current.remove(0) + operation, long.class);
     }
 
+    /**
+     * <p>
+     * Write primitive long operation code as plain number operation if all operands are exact
+     * numbers and the result range stays within the exact integer of number.
+     * </p>
+     * 
+     * @param operator A operator.
+     * @return A operation code or <code>null</code> if we can't compute it as number.
+     */
+    private final Operand operateExactLong(String operator) {
+        if (!(current.peek(0) instanceof OperandLong)) {
+            return null;
+        }
+
+        OperandLong right = (OperandLong) current.peek(0);
+
+        switch (operator) {
+        case "toInt":
+            current.remove(0);
+            return new OperandExpression(right.number.encolose() + "|0", int.class).encolose();
+
+        case "toDouble":
+            current.remove(0);
+            return new OperandExpression(right.number, double.class);
+
+        case "negate":
+            current.remove(0);
+            return right.negate();
+        }
+
+        if (!(current.peek(1) instanceof OperandLong)) {
+            return null;
+        }
+
+        OperandLong left = (OperandLong) current.peek(1);
+        OperandLong result;
+
+        switch (operator) {
+        case "add":
+            result = left.add(right);
+            break;
+
+        case "subtract":
+            result = left.subtract(right);
+            break;
+
+        case "multiply":
+            result = left.multiply(right);
+            break;
+
+        default:
+            return null;
+        }
+
+        if (result != null) {
+            current.remove(0);
+            current.remove(0);
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     * Write primitive long comparison code. The exact numbers are compared directly.
+     * </p>
+     * 
+     * @param operator A comparison method name.
+     * @param condition A condition for the exact numbers.
+     * @param node A transition node.
+     */
+    private final void compareLong(String operator, int condition, Node node) {
+        if (current.peek(0) instanceof OperandLong && current.peek(1) instanceof OperandLong) {
+            current.condition(((OperandLong) current.remove(1)).number, condition, ((OperandLong) current.remove(0)).number, node);
+        } else {
+            current.addOperand(new OperandCondition(operateLong(operator), NE, ZERO, node));
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1243,39 +1332,62 @@ class JavaMethodCompiler extends MethodVisitor {
 
         // detect lambda method
         Class lambdaClass = convert(handle.getOwner());
-        String lambdaMethodName = '"' + Javascript.computeMethodName(lambdaClass, handle.getName(), handle.getDesc()) + '"';
+        String lambdaMethodName = Javascript.computeMethodName(lambdaClass, handle.getName(), handle.getDesc());
 
-        // build parameter from local environment
-        List<String> params = new ArrayList();
+        // build captured values from local environment
+        List<String> captured = new ArrayList();
 
         for (int i = parameterDiff - 1; 0 <= i; i--) {
-            params.add(current.remove(i).toString());
+            captured.add(current.remove(i).toString());
         }
 
-        // write function call code
-        StringJoiner code = new StringJoiner(",", "λ(", ")");
-        code.add(interfaceClassName);
-        code.add(interfaceMethodName);
-        code.add(lambdaMethodName);
+        // The captured values are bound as parameters of the enclosing function, and the lambda
+        // parameters are passed through to the lambda method without slicing "arguments".
+        StringJoiner bounds = new StringJoiner(",");
+        StringJoiner values = new StringJoiner(",");
+        StringJoiner params = new StringJoiner(",");
+        StringJoiner args = new StringJoiner(",");
+
+        for (int i = 0; i < captured.size(); i++) {
+            bounds.add("c" + i);
+            values.add(captured.get(i));
+            args.add("c" + i);
+        }
+
+        for (int i = 0; i < functionalInterfaceType.getArgumentTypes().length; i++) {
+            params.add("a" + i);
+        }
+
+        String holder;
 
         switch (handle.getTag()) {
         case H_INVOKESTATIC:
-            code.add(Javascript.computeClassName(lambdaClass, true));
-            code.add(params.toString());
+            holder = Javascript.computeClassName(lambdaClass, true);
+            args.merge(params);
             break;
 
         case H_INVOKESPECIAL:
         case H_INVOKEVIRTUAL:
         case H_INVOKEINTERFACE:
             if (useContext) {
-                code.add(current.remove(0).toString());
-                code.add(params.toString());
+                // bind the receiver
+                holder = "r";
+                bounds = new StringJoiner(",").add("r").merge(bounds);
+                values = new StringJoiner(",").add(current.remove(0).toString()).merge(values);
+                args.merge(params);
+            } else {
+                // the first parameter is the receiver
+                holder = "a0";
+
+                for (int i = 1; i < functionalInterfaceType.getArgumentTypes().length; i++) {
+                    args.add("a" + i);
+                }
             }
             break;
 
         case H_NEWINVOKESPECIAL:
-            code.add(Javascript.computeClassName(lambdaClass) + ".prototype");
-            code.add(params.toString());
+            holder = Javascript.computeClassName(lambdaClass);
+            args.merge(params);
             break;
 
         default:
@@ -1283,7 +1395,20 @@ class JavaMethodCompiler extends MethodVisitor {
             // wrapped error in here.
             throw new Error();
         }
-        current.addOperand(code.toString());
+
+        // write specialized function for lambda method
+        String function = "function(" + params + "){return " + holder + "." + lambdaMethodName + "(" + args + ")}";
+        String lambda = "λ(" + interfaceClassName + "," + interfaceMethodName + ",";
+
+        if (values.length() == 0) {
+            // non-capturing lambda is created only once per site, the site is identified by the
+            // class name and the local id to keep the compiled code of each class independent
+            String cache = "λ.$." + Javascript.computeSimpleClassName(script.source) + "$" + lambdaSiteId.getAndIncrement();
+
+            current.addOperand("(" + cache + "||(" + cache + "=" + lambda + function + ")))");
+        } else {
+            current.addOperand(lambda + "(function(" + bounds + "){return " + function + "})(" + values + "))");
+        }
     }
 
     /**
@@ -1321,7 +1446,7 @@ class JavaMethodCompiler extends MethodVisitor {
                 current.condition(current.remove(1), EQ, current.remove(0), node);
             } else if (match(LCMP, JUMP)) {
                 // for long
-                current.addOperand(new OperandCondition(operateLong("equals"), NE, ZERO, node));
+                compareLong("equals", EQ, node);
             } else {
                 // others
                 current.condition(current.remove(0), EQ, ZERO, node);
@@ -1333,7 +1458,7 @@ class JavaMethodCompiler extends MethodVisitor {
                 current.condition(current.remove(1), NE, current.remove(0), node);
             } else if (match(LCMP, JUMP)) {
                 // for long
-                current.addOperand(new OperandCondition(operateLong("notEquals"), NE, ZERO, node));
+                compareLong("notEquals", NE, node);
             } else {
                 // others
                 current.condition(current.remove(0), NE, ZERO, node);
@@ -1346,7 +1471,7 @@ class JavaMethodCompiler extends MethodVisitor {
                 current.condition(current.remove(1), GE, current.remove(0), node);
             } else if (match(LCMP, JUMP)) {
                 // for long
-                current.addOperand(new OperandCondition(operateLong("greaterThanOrEqual"), NE, ZERO, node));
+                compareLong("greaterThanOrEqual", GE, node);
             } else {
                 // others
                 current.condition(current.remove(0), GE, ZERO, node);
@@ -1359,7 +1484,7 @@ class JavaMethodCompiler extends MethodVisitor {
                 current.condition(current.remove(1), GT, current.remove(0), node);
             } else if (match(LCMP, JUMP)) {
                 // for long
-                current.addOperand(new OperandCondition(operateLong("greaterThan"), NE, ZERO, node));
+                compareLong("greaterThan", GT, node);
             } else {
                 // others
                 current.condition(current.remove(0), GT, ZERO, node);
@@ -1372,7 +1497,7 @@ class JavaMethodCompiler extends MethodVisitor {
                 current.condition(current.remove(1), LE, current.remove(0), node);
             } else if (match(LCMP, JUMP)) {
                 // for long
-                current.addOperand(new OperandCondition(operateLong("lessThanOrEqual"), NE, ZERO, node));
+                compareLong("lessThanOrEqual", LE, node);
             } else {
                 // others
                 current.condition(current.remove(0), LE, ZERO, node);
@@ -1385,7 +1510,7 @@ class JavaMethodCompiler extends MethodVisitor {
                 current.condition(current.remove(1), LT, current.remove(0), node);
             } else if (match(LCMP, JUMP)) {
                 // for long
-                current.addOperand(new OperandCondition(operateLong("lessThan"), NE, ZERO, node));
+                compareLong("lessThan", LT, node);
             } else {
                 // others
                 current.condition(current.remove(0), LT, ZERO, node);
@@ -1474,7 +1599,13 @@ class JavaMethodCompiler extends MethodVisitor {
         if (constant instanceof String) {
             current.stack.add(new OperandString((String) constant));
         } else if (constant instanceof Long) {
-            current.addOperand(writePrimitiveCode((Long) constant));
+            OperandLong operand = OperandLong.of((Long) constant);
+
+            if (operand != null) {
+                current.addOperand(operand);
+            } else {
+                current.addOperand(writePrimitiveCode((Long) constant));
+            }
         } else if (constant instanceof Type) {
             String className = ((Type) constant).getInternalName();
 
@@ -1564,6 +1695,27 @@ class JavaMethodCompiler extends MethodVisitor {
             return;
         }
 
+        // inline the trivial accessor (field getter, field setter and constant)
+        if (inlining) {
+            Accessor accessor = JavaMethodInliner.findAccessor(opcode, owner, methodName, desc, script.source);
+
+            if (accessor != null && (opcode == INVOKESTATIC || accessor.accept(current.peek(0)))) {
+                if (opcode != INVOKESTATIC) {
+                    // push "this" operand
+                    contexts.add(0, current.remove(0));
+                }
+
+                Operand expression = accessor.inline(contexts);
+
+                if (immediately) {
+                    current.addExpression(expression);
+                } else {
+                    current.addOperand(expression);
+                }
+                return;
+            }
+        }
+
         // retrieve translator for this method owner
         Translator translator = TranslatorManager.getTranslator(owner);
 
@@ -1781,7 +1933,9 @@ class JavaMethodCompiler extends MethodVisitor {
                 code = current.remove(0) + " instanceof Object";
             } else if (clazz == String.class) {
                 code = "boot.isString(" + current.remove(0) + ")";
-            } else if (clazz.isInterface() || clazz.isArray()) {
+            } else if (clazz.isInterface()) {
+                code = "boot.isImplemented(" + current.remove(0) + ",\"" + Javascript.computeInterfaceMarker(clazz) + "\")";
+            } else if (clazz.isArray()) {
                 code = Javascript
                         .writeMethodCode(Class.class, "isInstance", Javascript.computeClass(clazz), Object.class, current.remove(0));
             } else {
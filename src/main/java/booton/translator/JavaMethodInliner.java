@@ -11,26 +11,37 @@ package booton.translator;
 
 import static org.objectweb.asm.Opcodes.*;
 
-import java.io.IOException;
-import java.util.HashMap;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
-import kiss.I;
+import jsx.ui.StructureDSL;
 
 /**
  * @version 2015/01/22 11:43:57
  */
 class JavaMethodInliner {
 
+    /** The maximum number of instructions of the inlinable accessor. */
+    private static final int MaxInstructions = 4;
+
     /** The code manager. */
-    private static final Map<String, BiFunction<List<Operand>, Node, String>> inlines = new HashMap();
+    private static final Map<String, BiFunction<List<Operand>, Node, String>> inlines = new ConcurrentHashMap();
+
+    /** The trivial accessors, the empty value means that the method is not trivial. */
+    private static final Map<String, Optional<Accessor>> accessors = new ConcurrentHashMap();
 
     /**
      * @param name
@@ -56,16 +67,98 @@ class JavaMethodInliner {
         BiFunction<List<Operand>, Node, String> translator = inlines.get(id);
 
         if (translator == null) {
-            try {
-                new ClassReader(owner.getName()).accept(new InlineClassParser(owner), 0);
-            } catch (IOException e) {
-                throw I.quiet(e);
-            }
+            ClassBytecode.read(owner).accept(new InlineClassParser(owner), 0);
             translator = inlines.get(id);
         }
         return translator;
     }
 
+    /**
+     * <p>
+     * Find the trivial accessor (field getter, field setter or constant) which is invoked at the
+     * specified call site. The invoked method must be resolved statically, so the virtual method
+     * is inlined only if it is private or final, its owner class is final, or it is monomorphic in
+     * the closed world (see {@link ClassHierarchy}). The static method is
+     * inlined only in the subclass of its owner because the invocation may initialize the owner
+     * class.
+     * </p>
+     * 
+     * @param opcode An invocation instruction.
+     * @param owner A method owner class.
+     * @param name A method name.
+     * @param desc A method description.
+     * @param caller A caller class.
+     * @return An accessor or <code>null</code> if the invoked method can't be inlined.
+     */
+    static Accessor findAccessor(int opcode, Class owner, String name, String desc, Class caller) {
+        if (opcode == INVOKEINTERFACE || name.charAt(0) == '<' || owner == StructureDSL.class || JavaAPIProviders.hasProvider(owner)) {
+            return null;
+        }
+
+        Method method = findMethod(owner, name, desc);
+
+        if (method == null) {
+            return null;
+        }
+
+        Class declaring = method.getDeclaringClass();
+        int modifiers = method.getModifiers();
+
+        // the method must be compiled from its own byte code
+        if (Modifier.isNative(modifiers) || declaring.isInterface() || JavascriptNative.class.isAssignableFrom(declaring) || TranslatorManager
+                .hasTranslator(declaring) || JavaAPIProviders.hasProvider(declaring)) {
+            return null;
+        }
+
+        if (Modifier.isStatic(modifiers)) {
+            if (opcode != INVOKESTATIC || !declaring.isAssignableFrom(caller)) {
+                return null;
+            }
+        } else if (opcode == INVOKEVIRTUAL) {
+            if (!Modifier.isPrivate(modifiers) && !Modifier.isFinal(modifiers) && !Modifier.isFinal(owner.getModifiers()) && !ClassHierarchy
+                    .isMonomorphic(owner, name, desc)) {
+                return null;
+            }
+        }
+
+        return accessors.computeIfAbsent(id(declaring, name, desc), key -> {
+            AccessorParser parser = new AccessorParser(name, desc);
+            ClassBytecode.read(declaring).accept(parser, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+            return Optional.ofNullable(parser.build());
+        }).orElse(null);
+    }
+
+    /**
+     * <p>
+     * Discard all analyzed accessors. The changed class file may change the trivial method body.
+     * </p>
+     */
+    static void clear() {
+        accessors.clear();
+    }
+
+    /**
+     * <p>
+     * Find the method which is invoked by the specified signature.
+     * </p>
+     * 
+     * @param owner A method owner class.
+     * @param name A method name.
+     * @param desc A method description.
+     * @return A declared method or <code>null</code>.
+     */
+    private static Method findMethod(Class owner, String name, String desc) {
+        for (Class type = owner; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.getName().equals(name) && Type.getMethodDescriptor(method).equals(desc)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * <p>
      * Create the identical key for the specified method.
@@ -91,7 +184,7 @@ class JavaMethodInliner {
         /**
          * @param owner
          */
-        private InlineClassParser(Class owner) throws IOException {
+        private InlineClassParser(Class owner) {
             super(ASM5);
 
             this.owner = owner;
@@ -193,4 +286,384 @@ class JavaMethodInliner {
             }
         }
     }
+    /**
+     * <p>
+     * The trivial method body which can be substituted at the call site.
+     * </p>
+     * 
+     * @version 2026/10/17 23:02:16
+     */
+    static class Accessor {
+
+        /** The accessed field owner, <code>null</code> means constant. */
+        private final Class owner;
+
+        /** The accessed field name or the constant value. */
+        private final Object value;
+
+        /** The accessed field type or the constant type. */
+        private final Class type;
+
+        /** The field assignment flag. */
+        private final boolean assign;
+
+        /** The static field flag. */
+        private final boolean isStatic;
+
+        /**
+         * @param owner The accessed field owner, <code>null</code> means constant.
+         * @param value The accessed field name or the constant value.
+         * @param type The accessed field type or the constant type.
+         * @param assign The field assignment flag.
+         * @param isStatic The static field flag.
+         */
+        private Accessor(Class owner, Object value, Class type, boolean assign, boolean isStatic) {
+            this.owner = owner;
+            this.value = value;
+            this.type = type;
+            this.assign = assign;
+            this.isStatic = isStatic;
+        }
+
+        /**
+         * <p>
+         * Check whether the receiver can be removed from the call site or not. The constant ignores
+         * its receiver, so the receiver must have no side effect.
+         * </p>
+         * 
+         * @param receiver A receiver operand.
+         * @return A result.
+         */
+        boolean accept(Operand receiver) {
+            return owner != null || receiver != null && receiver.toString().equals("this");
+        }
+
+        /**
+         * <p>
+         * Write the inlined expression.
+         * </p>
+         * 
+         * @param contexts The receiver (instance method only) and parameters.
+         * @return An inlined expression.
+         */
+        Operand inline(List<Operand> contexts) {
+            if (owner == null) {
+                return type == String.class ? new OperandString((String) value) : new OperandExpression(value, type);
+            }
+
+            // current processing script depends on the field owner class
+            Javascript.require(owner);
+
+            Translator translator = TranslatorManager.getTranslator(owner);
+            String field = isStatic ? translator.translateStaticField(owner, (String) value)
+                    : translator.translateField(owner, (String) value, contexts.get(0));
+
+            if (assign) {
+                return new OperandExpression(field + "=" + contexts.get(contexts.size() - 1).cast(type), type);
+            }
+            return new OperandExpression(field, type);
+        }
+    }
+
+    /**
+     * <p>
+     * Parse the method body and build {@link Accessor} if the body is trivial.
+     * </p>
+     * 
+     * @version 2026/10/17 23:02:16
+     */
+    private static class AccessorParser extends ClassVisitor {
+
+        /** The target method name. */
+        private final String name;
+
+        /** The target method description. */
+        private final String desc;
+
+        /** The instruction opcodes. */
+        private final List<Integer> opcodes = new ArrayList();
+
+        /** The instruction operands. */
+        private final List<Object> operands = new ArrayList();
+
+        /** The static method flag. */
+        private boolean isStatic;
+
+        /** The flag whether the body contains the nontrivial instruction. */
+        private boolean nontrivial;
+
+        /**
+         * @param name A method name.
+         * @param desc A method description.
+         */
+        private AccessorParser(String name, String desc) {
+            super(ASM7);
+
+            this.name = name;
+            this.desc = desc;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+            if (!name.equals(this.name) || !desc.equals(this.desc)) {
+                return null;
+            }
+            isStatic = (access & ACC_STATIC) != 0;
+
+            return new MethodVisitor(ASM7) {
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitInsn(int opcode) {
+                    record(opcode, null);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitIntInsn(int opcode, int operand) {
+                    if (opcode == NEWARRAY) {
+                        nontrivial = true;
+                    } else {
+                        record(opcode, operand);
+                    }
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitVarInsn(int opcode, int var) {
+                    record(opcode, var);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitFieldInsn(int opcode, String owner, String name, String desc) {
+                    record(opcode, new String[] {owner, name, desc});
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitLdcInsn(Object value) {
+                    record(LDC, value);
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitTypeInsn(int opcode, String type) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitMethodInsn(int opcode, String owner, String name, String desc, boolean isInterface) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitInvokeDynamicInsn(String name, String desc, Handle handle, Object... args) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitJumpInsn(int opcode, Label label) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitIincInsn(int var, int increment) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitTableSwitchInsn(int min, int max, Label defaults, Label... labels) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitLookupSwitchInsn(Label defaults, int[] keys, Label[] labels) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitMultiANewArrayInsn(String desc, int dimension) {
+                    nontrivial = true;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public void visitTryCatchBlock(Label start, Label end, Label handler, String type) {
+                    nontrivial = true;
+                }
+            };
+        }
+
+        /**
+         * <p>
+         * Record the instruction.
+         * </p>
+         * 
+         * @param opcode An instruction opcode.
+         * @param operand An instruction operand.
+         */
+        private void record(int opcode, Object operand) {
+            if (opcodes.size() == MaxInstructions) {
+                nontrivial = true;
+            } else {
+                opcodes.add(opcode);
+                operands.add(operand);
+            }
+        }
+
+        /**
+         * <p>
+         * Build accessor from the recorded instructions.
+         * </p>
+         * 
+         * @return An accessor or <code>null</code> if the method body is not trivial.
+         */
+        private Accessor build() {
+            if (nontrivial || opcodes.isEmpty()) {
+                return null;
+            }
+
+            Type returnType = Type.getReturnType(desc);
+            Type[] parameters = Type.getArgumentTypes(desc);
+            int size = opcodes.size();
+            int last = opcodes.get(size - 1);
+            int self = isStatic ? 0 : 1;
+
+            if (parameters.length == 0 && last == returnType.getOpcode(IRETURN)) {
+                // constant
+                if (size == 2 && opcodes.get(0) != GETSTATIC) {
+                    return constant(opcodes.get(0), operands.get(0), returnType);
+                }
+
+                // field getter
+                if (size == 2 + self && (isStatic || isThis(0))) {
+                    return field(isStatic ? GETSTATIC : GETFIELD, size - 2, false);
+                }
+                return null;
+            }
+
+            // field setter
+            if (size == 3 + self && parameters.length == 1 && last == RETURN && (isStatic || isThis(0)) && opcodes
+                    .get(self) == parameters[0].getOpcode(ILOAD) && operands.get(self).equals(self)) {
+                return field(isStatic ? PUTSTATIC : PUTFIELD, size - 2, true);
+            }
+            return null;
+        }
+
+        /**
+         * <p>
+         * Check whether the specified instruction loads "this" or not.
+         * </p>
+         * 
+         * @param index An instruction index.
+         * @return A result.
+         */
+        private boolean isThis(int index) {
+            return opcodes.get(index) == ALOAD && operands.get(index).equals(0);
+        }
+
+        /**
+         * <p>
+         * Build field accessor.
+         * </p>
+         * 
+         * @param opcode A required field instruction.
+         * @param index An instruction index.
+         * @param assign The field assignment flag.
+         * @return An accessor or <code>null</code>.
+         */
+        private Accessor field(int opcode, int index, boolean assign) {
+            if (opcodes.get(index) != opcode) {
+                return null;
+            }
+
+            String[] field = (String[]) operands.get(index);
+
+            if (field[1].equals("$assertionsDisabled")) {
+                return null;
+            }
+            return new Accessor(JavaMethodCompiler.convert(field[0]), field[1], JavaMethodCompiler
+                    .convert(Type.getType(field[2])), assign, opcode == GETSTATIC || opcode == PUTSTATIC);
+        }
+
+        /**
+         * <p>
+         * Build constant accessor. The character and long constants are not inlined because their
+         * representation is not primitive number.
+         * </p>
+         * 
+         * @param opcode A constant instruction.
+         * @param operand A constant operand.
+         * @param type A return type.
+         * @return An accessor or <code>null</code>.
+         */
+        private Accessor constant(int opcode, Object operand, Type type) {
+            Object value;
+
+            if (ICONST_M1 <= opcode && opcode <= ICONST_5) {
+                value = opcode - ICONST_0;
+            } else if (opcode == BIPUSH || opcode == SIPUSH) {
+                value = operand;
+            } else if (opcode == LDC && (operand instanceof Integer || operand instanceof String)) {
+                value = operand;
+            } else {
+                return null;
+            }
+
+            switch (type.getSort()) {
+            case Type.BOOLEAN:
+                return new Accessor(null, value.equals(0) ? "false" : "true", boolean.class, false, false);
+
+            case Type.INT:
+            case Type.SHORT:
+            case Type.BYTE:
+                return new Accessor(null, value, JavaMethodCompiler.convert(type), false, false);
+
+            case Type.OBJECT:
+                return value instanceof String ? new Accessor(null, value, String.class, false, false) : null;
+
+            default:
+                return null;
+            }
+        }
+    }
 }
@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -31,9 +32,12 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Type;
 
 import booton.BootonConfiguration;
@@ -93,15 +97,42 @@ public class Javascript {
     /** The all cached scripts. */
     private static final Map<Class, Javascript> scripts = new ConcurrentHashMap();
 
-    /** The method list. Method signature must have identity in compiling environment */
-    private static final List<Integer> methods = new ArrayList();
-
-    /** The local identifier counter for {@link Javascript}. */
+    /** The local identifier counter for {@link Javascript}. This is guarded by {@link #scripts}. */
     private static int counter = 0;
 
     /** The build configuration. */
     private static BootonConfiguration configuration = I.make(BootonConfiguration.class);
 
+    /** The persistent storage of compiled code and member-name tables. */
+    private static final CompiledCodeStorage storage = new CompiledCodeStorage(configuration);
+
+    /** The method list. Method signature must have identity in compiling environment */
+    private static final SymbolTable methods = storage.methods;
+
+    /** The memoized method names for each owner class. */
+    private static final Map<Class, Map<String, String>> methodNames = new ConcurrentHashMap();
+
+    /** The frequency-ranked naming of methods. */
+    private static final Ranking methodRanking = new Ranking();
+
+    /** The frequency-ranked naming of classes. */
+    private static final Ranking classRanking = new Ranking();
+
+    /** The reference count of each method name, this is counted in the first pass of ranking. */
+    private static final Map<String, LongAdder> methodReferences = new ConcurrentHashMap();
+
+    /** The flag whether the reference frequency is counted or not. */
+    private static volatile boolean counting = false;
+
+    /** The flag whether the frequency-ranked names are assigned or not. */
+    private static boolean ranked = false;
+
+    /** The flag whether each script is compiled into the output directly or not. */
+    private static volatile boolean streaming = false;
+
+    /** The flag whether the scripts are numbered provisionally in the parallel compilation. */
+    private static volatile boolean provisional = false;
+
     private static CompiledCodeRepository repository = I.make(CompiledCodeRepository.class);
 
     // initialization
@@ -118,6 +149,10 @@ public class Javascript {
         // Load Booton module
         I.load(Translator.class);
 
+        // Restore member-name tables before any script is created, so the stored codes can
+        // refer the same names.
+        storage.restore();
+
         // Define Class class at first. It is ensured that Class definition is
         // assigned in 'boot.A' variable.
         getScript(Class.class);
@@ -128,20 +163,32 @@ public class Javascript {
     public final Class<?> source;
 
     /** The identifier of this script. */
-    private final int id;
+    private int id;
 
     /** The constructor list of this script. */
-    private final List<Integer> constructors = new ArrayList();
+    private final SymbolTable constructors;
 
     /** The field list of this script. */
-    private final List<Integer> fields = new ArrayList();
+    private final SymbolTable fields;
 
     /** The dependencies. */
     private final Set<Class> dependencies = new LinkedHashSet();
 
+    /** The frequency-ranked naming of fields declared in this script. */
+    private final Ranking fieldRanking = new Ranking();
+
+    /** The reference count of this class name. */
+    private final LongAdder references = new LongAdder();
+
+    /** The reference count of each field ordinal. */
+    private final Map<Integer, LongAdder> fieldReferences = new ConcurrentHashMap();
+
     /** The actual Javascript source code to be translated. This is initialized lazy. */
     private String code;
 
+    /** The flag whether the code is compiled with the provisional numbers or not. */
+    private boolean provisionally;
+
     /**
      * Create Javascript as the specified Java class is source.
      * 
@@ -153,19 +200,27 @@ public class Javascript {
         this.source = source;
 
         Class reverted = JavaAPIProviders.revert(source);
+        CompiledCodeStorage.Symbol symbol = storage.symbol(source);
 
         if (reverted.isPrimitive()) {
             this.id = primitiveIds.get(primitives.indexOf(reverted));
+        } else if (symbol.id != -1) {
+            // restored id
+            this.id = symbol.id;
         } else {
-            while (primitiveIds.indexOf(counter) != -1) {
-                // skip preserved id for primitives
+            while (primitiveIds.indexOf(counter) != -1 || storage.isReserved(counter)) {
+                // skip preserved id for primitives and restored classes
                 counter++;
             }
             this.id = counter++;
         }
+        symbol.id = id;
 
-        // copy all member fields for override mechanism
-        if (source != RootClass) {
+        this.constructors = symbol.constructors;
+        this.fields = symbol.fields;
+
+        // copy all member fields for override mechanism (restored table has them already)
+        if (fields.isEmpty() && source != RootClass) {
             Javascript script = getScript(source.getSuperclass());
 
             if (script != null) {
@@ -175,7 +230,7 @@ public class Javascript {
 
         // define all declared member fields
         for (Field field : source.getDeclaredFields()) {
-            order(fields, field.getName().hashCode() + source.hashCode());
+            fields.order(computeFieldHash(source, field.getName()));
         }
 
         if (Extensible.class.isAssignableFrom(source)) {
@@ -199,7 +254,10 @@ public class Javascript {
      * @return
      */
     private String computeUniqueName() {
-        return !configuration.compression ? mung32(id) : source.getName().replaceAll("\\.", "_");
+        if (counting) {
+            references.increment();
+        }
+        return !configuration.compression ? mung32(classRanking.map(id)) : source.getName().replaceAll("\\.", "_");
     }
 
     /**
@@ -266,61 +324,246 @@ public class Javascript {
             defined = new HashSet();
         }
 
-        // write this script
-        write(output, defined);
+        List<Javascript> written = new ArrayList();
 
-        // find all necessaries and write it
-        for (Class necessary : I.make(NecessaryManager.class).collect()) {
-            getScript(necessary).write(output, defined);
+        // The first pass of frequency-ranked naming counts references with provisional names.
+        boolean ranking = configuration.ranking && !ranked;
+
+        // The first pass of devirtualization enumerates the reachable classes.
+        boolean analyzing = configuration.devirtualization;
+        Set<Class> previous = new HashSet(defined);
+        counting = ranking;
+
+        if (analyzing) {
+            // the codes of the previous build are compiled in its own closed world
+            ClassHierarchy.open();
+            discard();
         }
 
-        // write bootstrap method if needed.
-        try {
-            String main = writeMethodCode(source, "main", String[].class, null);
-            String error = writeMethodCode(Thread.class, "handleUncaughtException", Object.class, "e");
+        if (configuration.streaming && !configuration.shaking && !configuration.pruning && !configuration.ranking && !configuration.devirtualization) {
+            // Write each script into the output as soon as it is compiled and discard it, so the
+            // whole program is never retained. The elimination, the ranking and the
+            // devirtualization need the whole program, so they can't stream.
+            Appendable stripped = TreeShaker.strip(output);
+            streaming = true;
 
-            ScriptWriter code = new ScriptWriter();
-            code.write("window.onerror", "=", "function(m,f,l,c,e)", "{", error, "}", ";").line();
-            code.write(main, ";");
-            output.append(code.toString());
-        } catch (Exception e) {
-            // ignore missing "main" method
+            try {
+                collect(defined, script -> script.stream(stripped));
+            } finally {
+                streaming = false;
+            }
+        } else {
+            collect(defined, written::add);
+        }
+
+        if (ranking || analyzing) {
+            if (ranking) {
+                counting = false;
+                ranked = true;
+
+                // assign the shortest names to the most referenced identifiers
+                rank();
+            }
+
+            if (analyzing) {
+                // all scripts which can be instantiated are compiled in the first pass
+                ClassHierarchy.close(scripts.keySet());
+            }
+
+            // discard all codes which are compiled with the provisional names or the open world
+            discard();
+
+            if (ranking) {
+                methodNames.clear();
+            }
+
+            // the second pass
+            defined.clear();
+            defined.addAll(previous);
+            written.clear();
+            collect(defined, written::add);
+        }
+
+        // build bootstrap method if needed, the invoked methods are the entry points
+        Set<String> entries = new HashSet();
+        String bootstrap = TreeShaker.record(entries, () -> {
+            try {
+                String main = writeMethodCode(source, "main", String[].class, null);
+                String error = writeMethodCode(Thread.class, "handleUncaughtException", Object.class, "e");
+
+                ScriptWriter code = new ScriptWriter();
+                code.write("window.onerror", "=", "function(m,f,l,c,e)", "{", error, "}", ";").line();
+                code.write(main, ";");
+                return code.toString();
+            } catch (Exception e) {
+                // ignore missing "main" method
+                return "";
+            }
+        });
+
+        // eliminate the unreachable methods and the unused metadata
+        TreeShaker shaker = new TreeShaker(configuration.shaking, configuration.pruning);
+
+        if (configuration.shaking || configuration.pruning) {
+            for (Javascript script : written) {
+                shaker.add(script.code);
+            }
+
+            for (String entry : entries) {
+                shaker.root(entry);
+            }
+            shaker.shake();
+        }
+
+        // write all scripts
+        try {
+            for (Javascript script : written) {
+                BootonLog.WriteJSActually.start(script.source);
+                shaker.write(script.code, output);
+                BootonLog.WriteJSActually.stop();
+            }
+            output.append(bootstrap);
+        } catch (IOException e) {
+            throw I.quiet(e);
         }
 
         // close stream
         I.quiet(output);
 
+        // persist member-name tables for the next build
+        storage.store();
+
         BootonLog.WriteTo.stop();
     }
 
     /**
      * <p>
-     * Helper method to write dependency scripts into the specified output.
+     * Compile and collect this script and all necessaries in writing order.
+     * </p>
+     * 
+     * @param defined A list of compiled script classes.
+     * @param written A receiver of scripts in writing order.
+     */
+    private void collect(Set<Class> defined, Consumer<Javascript> written) {
+        // compile all reachable scripts concurrently, only the following write is serialized
+        if (configuration.parallel && !streaming) {
+            compileParallel();
+        }
+
+        // collect this script
+        write(written, defined);
+
+        // find all necessaries and collect it
+        for (Class necessary : I.make(NecessaryManager.class).collect()) {
+            getScript(necessary).write(written, defined);
+        }
+    }
+
+    /**
+     * <p>
+     * Write this script into the specified output without retaining the compiled code.
      * </p>
      * 
      * @param output A script output.
+     */
+    private synchronized void stream(Appendable output) {
+        BootonLog.WriteJSActually.start(source);
+
+        try {
+            if (code == null) {
+                ScriptWriter writer = new ScriptWriter(output);
+                compileActually(writer);
+                writer.close();
+            } else {
+                // the compiled code is already retained (e.g. live coding)
+                output.append(code);
+            }
+        } catch (IOException e) {
+            throw I.quiet(e);
+        } finally {
+            BootonLog.WriteJSActually.stop();
+        }
+    }
+
+    /**
+     * <p>
+     * Rank the names of methods, classes, fields and CSS in order of the counted reference
+     * frequency.
+     * </p>
+     */
+    private static void rank() {
+        // methods (the provisional name is the munged ordinal)
+        methodRanking.rank(methods.size(), ordinal -> count(methodReferences.get(mung32(ordinal))), ordinal -> false);
+
+        // classes (Class class and primitives have the fixed names which are used by runtime)
+        List<Javascript> list = new ArrayList(scripts.values());
+        int max = 0;
+
+        for (Javascript script : list) {
+            max = Math.max(max, script.id);
+        }
+
+        int[] counts = new int[max + 1];
+
+        for (Javascript script : list) {
+            counts[script.id] += count(script.references);
+        }
+        classRanking.rank(counts.length, id -> counts[id], id -> id == 0 || primitiveIds.contains(id));
+
+        // fields (only in the declared range, the inherited fields keep their names)
+        for (Javascript script : list) {
+            Javascript parent = script.source == RootClass ? null : getScript(script.source.getSuperclass());
+            int inherited = parent == null ? 0 : parent.fields.size();
+
+            script.fieldRanking.rank(script.fields.size(), ordinal -> count(script.fieldReferences.get(ordinal)), ordinal -> ordinal < inherited);
+        }
+
+        // css
+        rankCSSNames();
+    }
+
+    /**
+     * <p>
+     * Helper method to read the reference count.
+     * </p>
+     * 
+     * @param counter A counter.
+     * @return A count.
+     */
+    private static int count(LongAdder counter) {
+        return counter == null ? 0 : counter.intValue();
+    }
+
+    /**
+     * <p>
+     * Helper method to collect dependency scripts in writing order.
+     * </p>
+     * 
+     * @param written A receiver of scripts in writing order.
      * @param defined
      */
-    private void write(Appendable output, Set<Class> defined) {
+    private void write(Consumer<Javascript> written, Set<Class> defined) {
         BootonLog.WriteJS.start(source);
 
         // record compile route
         CompilerRecorder.startCompiling(this);
 
         try {
-            // compile script
-            compile();
+            // compile script (the streaming script is compiled on writing)
+            if (!streaming) {
+                compile();
+            }
 
             // write super class and interfaces
             if (source != RootClass && !isEnumSubType(source)) {
                 BootonLog.WriteSuperClass.start(source, () -> {
-                    write(output, defined, source.getSuperclass());
+                    write(written, defined, source.getSuperclass());
                 });
 
                 BootonLog.WriteInterface.start(source, () -> {
 
                     for (Class interfaceType : source.getInterfaces()) {
-                        write(output, defined, interfaceType);
+                        write(written, defined, interfaceType);
                     }
                 });
             }
@@ -331,25 +574,18 @@ public class Javascript {
                         Class sub = constant.getClass();
 
                         if (sub != source) {
-                            write(output, defined, sub);
+                            write(written, defined, sub);
                         }
                     }
                 }
 
                 // write this class
-                try {
-                    BootonLog.WriteJSActually.start(source);
-                    output.append(code);
-                } catch (IOException e) {
-                    throw I.quiet(e);
-                } finally {
-                    BootonLog.WriteJSActually.stop();
-                }
+                written.accept(this);
 
                 // write dependency classes
                 BootonLog.WriteDependency.start(source, () -> {
                     for (Class dependency : dependencies) {
-                        write(output, defined, dependency);
+                        write(written, defined, dependency);
                     }
                 });
             }
@@ -361,6 +597,148 @@ public class Javascript {
         }
     }
 
+    /**
+     * <p>
+     * Compile this script and all reachable scripts (dependencies, super classes, interfaces and
+     * necessaries) on all processors.
+     * </p>
+     */
+    private void compileParallel() {
+        BootonLog.CompileParallel.start(source, () -> {
+            // The scripts are created and the members are numbered in order of thread scheduling,
+            // so the first pass numbers them provisionally and the numbers are sorted after it.
+            Numbering numbering = new Numbering();
+            provisional = true;
+
+            try {
+                compileParallelActually();
+            } finally {
+                provisional = false;
+            }
+
+            List<Javascript> compiled = new ArrayList();
+
+            for (Javascript script : scripts.values()) {
+                if (script.provisionally) {
+                    script.provisionally = false;
+                    compiled.add(script);
+                }
+            }
+
+            if (numbering.sort()) {
+                // discard all codes which are compiled with the provisional numbers
+                methodNames.clear();
+
+                for (Javascript script : compiled) {
+                    synchronized (script) {
+                        script.code = null;
+                    }
+                }
+
+                if (counting) {
+                    methodReferences.clear();
+
+                    for (Javascript script : scripts.values()) {
+                        script.references.reset();
+                        script.fieldReferences.clear();
+                    }
+                }
+
+                // the second pass uses the sorted numbers only
+                compileParallelActually();
+            } else if (!configuration.ranking && !configuration.inlining) {
+                // the provisional numbers are the final numbers
+                for (Javascript script : compiled) {
+                    storage.save(script.source, script.dependencies, script.code);
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>
+     * Compile this script and all reachable scripts (dependencies, super classes, interfaces and
+     * necessaries) on all processors actually.
+     * </p>
+     */
+    private void compileParallelActually() {
+        Set<Javascript> visited = ConcurrentHashMap.newKeySet();
+        List<CompileTask> tasks = new ArrayList();
+        tasks.add(new CompileTask(this, visited));
+        visited.add(this);
+
+        for (Class necessary : I.make(NecessaryManager.class).collect()) {
+            Javascript script = getScript(necessary);
+
+            if (script != null && visited.add(script)) {
+                tasks.add(new CompileTask(script, visited));
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        try {
+            pool.invoke(new RecursiveAction() {
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * <p>
+     * Collect all classes which will be written with this script. This must be called after
+     * compiling.
+     * </p>
+     * 
+     * @return A list of related classes.
+     */
+    private List<Class> collectRelated() {
+        List<Class> related = new ArrayList();
+
+        if (source != RootClass && !isEnumSubType(source)) {
+            related.add(source.getSuperclass());
+            related.addAll(Arrays.asList(source.getInterfaces()));
+        }
+
+        if (source.getSuperclass() == Enum.class) {
+            for (Object constant : source.getEnumConstants()) {
+                related.add(constant.getClass());
+            }
+        }
+        related.addAll(dependencies);
+
+        return related;
+    }
+
+    /**
+     * <p>
+     * Retrieve the compiled class definition code of this script. This method doesn't write
+     * dependency scripts.
+     * </p>
+     * 
+     * @return A compiled code.
+     */
+    public String getCode() {
+        CompilerRecorder.startCompiling(this);
+
+        try {
+            compile();
+
+            return TreeShaker.strip(code);
+        } finally {
+            CompilerRecorder.finishCompiling(this);
+        }
+    }
+
     private boolean isEnumSubType(Class type) {
         if (Enum.class.isAssignableFrom(type)) {
             return type.getSuperclass() != Enum.class;
@@ -370,19 +748,18 @@ public class Javascript {
 
     /**
      * <p>
-     * Write code of the specified class.
+     * Collect code of the specified class.
      * </p>
      * 
-     * @param output
+     * @param written
      * @param defined
      * @param type
-     * @throws IOException
      */
-    private void write(Appendable output, Set<Class> defined, Class type) {
+    private void write(Consumer<Javascript> written, Set<Class> defined, Class type) {
         Javascript script = Javascript.getScript(type);
 
         if (script != null && !defined.contains(script.source)) {
-            script.write(output, defined);
+            script.write(written, defined);
         }
     }
 
@@ -394,75 +771,142 @@ public class Javascript {
     private synchronized void compile() {
         if (code == null) {
             BootonLog.Compile.start(source, () -> {
+                if (configuration.ranking || configuration.inlining) {
+                    // frequency-ranked names are assigned per build and the inlined code depends on
+                    // the byte code of other classes, so cached code is not reusable
+                    code = compileActually();
+                    provisionally = provisional;
+                } else if (provisional) {
+                    // the stored code uses the fixed numbers, but the fresh code may be renumbered
+                    code = storage.load(source, dependencies);
+
+                    if (code == null) {
+                        code = compileActually();
+                        provisionally = true;
+                    }
+                } else {
+                    code = repository.findCodeBy(source, () -> storage.find(source, dependencies, this::compileActually));
+                }
+            });
 
-                code = repository.findCodeBy(source, () -> {
-                    ScriptWriter code = new ScriptWriter();
+            // the cached code also registers the statically declared styles
+            StaticStyleCompiler.collect(source);
+        }
+    }
 
-                    // compute related class names
-                    Class parent = source.getSuperclass();
-                    String className = '"' + computeSimpleClassName(source) + '"';
-                    String parentName = '"' + (parent == null || parent == Object.class ? "" : computeSimpleClassName(parent)) + '"';
-                    StringJoiner interfaces = new StringJoiner(" ", "\"", "\"");
+    /**
+     * <p>
+     * Translate the java byte code to the javascript code actually.
+     * </p>
+     * 
+     * @return A compiled code.
+     */
+    String compileActually() {
+        ScriptWriter code = new ScriptWriter();
+        compileActually(code);
 
-                    for (Class type : source.getInterfaces()) {
-                        interfaces.add(computeSimpleClassName(type));
-                    }
+        // create cache
+        return code.toString();
+    }
 
-                    // write class definition
-                    code.comment(source + " " + className);
-                    code.append("boot.define(", className, ",", parentName, ",", interfaces, ",{");
+    /**
+     * <p>
+     * Translate the java byte code to the javascript code actually.
+     * </p>
+     * 
+     * @param code A code writer.
+     */
+    private void compileActually(ScriptWriter code) {
+        // compute related class names
+        Class parent = source.getSuperclass();
+        String className = '"' + computeSimpleClassName(source) + '"';
+        String parentName = '"' + (parent == null || parent == Object.class ? "" : computeSimpleClassName(parent)) + '"';
+        StringJoiner interfaces = new StringJoiner(" ", "\"", "\"");
+
+        for (Class type : source.getInterfaces()) {
+            interfaces.add(computeSimpleClassName(type));
+        }
 
-                    // write constructors, fields and methods
-                    try {
-                        if (!TranslatorManager.hasTranslator(source)) {
-                            if (source.isAnnotation()) {
-                                compileAnnotation(code);
-                            } else {
-                                try {
-                                    BootonLog.PraseByteCode.start(source);
-                                    new ClassReader(source.getName()).accept(new JavaClassCompiler(this, code), 0);
-                                } finally {
-                                    BootonLog.PraseByteCode.stop();
-                                }
-                            }
-                        }
-                    } catch (TranslationError e) {
-                        e.write("\r\n");
+        // write class definition
+        code.comment(source + " " + className);
+        code.append("boot.define(", className, ",", parentName, ",", interfaces, ",{");
+
+        // write the markers of all implemented interfaces for type test
+        Set<Class> implemented = new LinkedHashSet();
+        collectInterfaces(source, implemented);
 
-                        throw CompilerRecorder.rethrow(e);
-                    } catch (Throwable e) {
-                        TranslationError error = new TranslationError(e);
-                        error.write("Can't compile ", source.getName() + ".");
+        for (Class type : implemented) {
+            code.append(computeInterfaceMarker(type), ":1").separator();
+        }
 
-                        throw CompilerRecorder.rethrow(error);
+        // write the registration of the statically declared styles
+        StaticStyleCompiler.compile(source, code);
+
+        // write constructors, fields and methods
+        try {
+            if (!TranslatorManager.hasTranslator(source)) {
+                if (source.isAnnotation()) {
+                    compileAnnotation(code);
+                } else {
+                    try {
+                        BootonLog.PraseByteCode.start(source);
+                        ClassBytecode.read(source).accept(new JavaClassCompiler(this, code), 0);
+                    } finally {
+                        BootonLog.PraseByteCode.stop();
                     }
+                }
+            }
+        } catch (TranslationError e) {
+            e.write("\r\n");
 
-                    // write metadata
-                    code.append("},", new JavaMetadataCompiler(source));
+            throw CompilerRecorder.rethrow(e);
+        } catch (Throwable e) {
+            TranslationError error = new TranslationError(e);
+            error.write("Can't compile ", source.getName() + ".");
 
-                    // write native class enhancement
-                    JavascriptAPIProvider provider = source.getAnnotation(JavascriptAPIProvider.class);
+            throw CompilerRecorder.rethrow(error);
+        }
 
-                    if (provider != null) {
-                        String JSClassName = provider.targetJavaScriptClassName();
+        // write metadata
+        TreeShaker.startClass();
+        code.append("},", new JavaMetadataCompiler(source));
 
-                        if (JSClassName.length() != 0) {
-                            code.append(",").string(JSClassName);
-                        }
-                    }
+        // write native class enhancement
+        JavascriptAPIProvider provider = source.getAnnotation(JavascriptAPIProvider.class);
 
-                    if (Extensible.class.isAssignableFrom(source)) {
-                        code.append(",").string("e");
-                    }
+        if (provider != null) {
+            String JSClassName = provider.targetJavaScriptClassName();
 
-                    // End class definition
-                    code.append(");");
-                    code.line();
+            if (JSClassName.length() != 0) {
+                code.append(",").string(JSClassName);
+            }
+        }
 
-                    // create cache
-                    return code.toString();
-                });
-            });
+        if (Extensible.class.isAssignableFrom(source)) {
+            code.append(",").string("e");
+        }
+
+        // End class definition
+        code.append(");");
+        TreeShaker.endClass(code);
+        code.line();
+    }
+
+    /**
+     * <p>
+     * Collect the specified interface and all its super interfaces.
+     * </p>
+     * 
+     * @param type A target type.
+     * @param implemented A collected interfaces.
+     */
+    private static void collectInterfaces(Class type, Set<Class> implemented) {
+        if (type.isInterface()) {
+            implemented.add(type);
+        }
+
+        for (Class interfaceType : type.getInterfaces()) {
+            collectInterfaces(interfaceType, implemented);
         }
     }
 
@@ -557,7 +1001,7 @@ public class Javascript {
             if (Modifier.isStatic(method.getModifiers())) {
                 code = computeClassName(source, true);
             } else if (context == null) {
-                code = "new " + computeClassName(source) + "(0)";
+                code = computeClassName(source) + ".$0()";
             } else {
                 code = context.toString();
             }
@@ -583,7 +1027,9 @@ public class Javascript {
             Javascript context = CompilerRecorder.getScript();
 
             if (context.source != dependency) {
-                context.dependencies.add(dependency);
+                Set<Class> forked = CompilerRecorder.getDependencies();
+
+                (forked == null ? context.dependencies : forked).add(dependency);
             }
         }
     }
@@ -609,16 +1055,74 @@ public class Javascript {
         Javascript script = scripts.get(source);
 
         if (script == null) {
-            script = new Javascript(source);
+            // Script creation assigns the sequential identifier, so it must be serialized.
+            synchronized (scripts) {
+                script = scripts.get(source);
 
-            // cache it
-            scripts.put(source, script);
+                if (script == null) {
+                    script = new Javascript(source);
+
+                    // cache it
+                    scripts.put(source, script);
+                }
+            }
         }
 
         // API definition
         return script;
     }
 
+    /**
+     * <p>
+     * Check whether the specified Java class is already scripted or not.
+     * </p>
+     * 
+     * @param source A Java class to check.
+     * @return A result.
+     */
+    public static final boolean hasScript(Class source) {
+        return scripts.containsKey(JavaAPIProviders.convert(source));
+    }
+
+    /**
+     * <p>
+     * Discard the compiled codes of all scripts.
+     * </p>
+     */
+    private static void discard() {
+        for (Javascript script : scripts.values()) {
+            synchronized (script) {
+                script.code = null;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Discard the compiled code of the specified Java class and translate it again from the current
+     * byte code. Other scripts are not affected because the member-name tables are shared.
+     * </p>
+     * 
+     * @param source A Java class to recompile.
+     * @return A recompiled Javascript source or <code>null</code> if it is not scripted.
+     */
+    public static final String recompile(Class source) {
+        Javascript script = scripts.get(JavaAPIProviders.convert(source));
+
+        if (script == null) {
+            return null;
+        }
+
+        // the class file is changed, so the parsed byte code and accessors must not be reused
+        ClassBytecode.evict(script.source);
+        JavaMethodInliner.clear();
+
+        synchronized (script) {
+            script.code = null;
+        }
+        return script.getCode();
+    }
+
     /**
      * <p>
      * Compute the identified qualified class object for ECMAScript.
@@ -628,6 +1132,7 @@ public class Javascript {
      * @return An identified class object for ECMAScript.
      */
     public static final String computeClass(Class clazz) {
+
         int dimension = 0;
 
         while (clazz.isArray()) {
@@ -637,6 +1142,9 @@ public class Javascript {
 
         String type = computeClassName(clazz) + ".$";
 
+        // record class literal for metadata pruning
+        TreeShaker.recordClass(clazz);
+
         if (dimension != 0) {
             for (int i = 0; i < dimension; i++) {
                 type = writeMethodCode(Class.class, "getArrayClass", type);
@@ -675,6 +1183,20 @@ public class Javascript {
         }
     }
 
+    /**
+     * <p>
+     * Compute the marker property name of the specified interface. The marker is defined on the
+     * prototype of the interface and its all implementations, so the interface type test is a
+     * single property access.
+     * </p>
+     * 
+     * @param type An interface type.
+     * @return An identified marker name for ECMAScript.
+     */
+    public static final String computeInterfaceMarker(Class type) {
+        return "ι" + computeSimpleClassName(type);
+    }
+
     /**
      * <p>
      * Compute the identified simple class name for ECMAScript.
@@ -749,6 +1271,37 @@ public class Javascript {
      * @return An identified class name for ECMAScript.
      */
     public static final String computeMethodName(Class owner, String name, String description) {
+        Map<String, String> names = methodNames.computeIfAbsent(owner, key -> new ConcurrentHashMap());
+        String key = name.concat(description);
+        String computed = names.get(key);
+
+        if (computed == null) {
+            computed = computeMethodNameActually(owner, name, description);
+            names.put(key, computed);
+        }
+
+        // record reference for tree shaking and frequency-ranked naming
+        TreeShaker.record(computed);
+
+        if (counting) {
+            methodReferences.computeIfAbsent(computed, name -> new LongAdder()).increment();
+        }
+
+        return computed;
+    }
+
+    /**
+     * <p>
+     * Compute the identified qualified method name for ECMAScript without memoization.
+     * </p>
+     * 
+     * @param owner A {@link Class} object representing the class or interface that declares the
+     *            specified method.
+     * @param methodName A method name(e.g. toString, <init> and <clinit>).
+     * @param description A method description of parameter types and return type.
+     * @return An identified class name for ECMAScript.
+     */
+    private static final String computeMethodNameActually(Class owner, String name, String description) {
         // convert an alias to an actual method name
         if (name.startsWith("$alias$")) {
             name = name.substring(7);
@@ -764,13 +1317,13 @@ public class Javascript {
                 return "";
             } else {
                 // constructor
-                return "$" + order(getScript(owner).constructors, description.hashCode());
+                return "$" + getScript(owner).constructors.order(description.hashCode());
             }
         } else {
             // method
             description = JavaAPIProviders.validateMethod(owner, name, description);
 
-            return mung32(order(methods, name.concat(description).hashCode()));
+            return mung32(methodRanking.map(methods.order(name.concat(description).hashCode())));
         }
     }
 
@@ -808,13 +1361,32 @@ public class Javascript {
             JavaAPIProviders.validateField(owner, field);
 
             Javascript js = getScript(owner);
+            int ordinal = js.fields.order(computeFieldHash(js.source, fieldName));
+
+            if (counting) {
+                js.fieldReferences.computeIfAbsent(ordinal, key -> new LongAdder()).increment();
+            }
+            return mung16(js.fieldRanking.map(ordinal));
 
-            return mung16(order(js.fields, fieldName.hashCode() + js.source.hashCode()));
         } catch (NoSuchFieldException e) {
             return computeFieldName(owner.getSuperclass(), fieldName);
         }
     }
 
+    /**
+     * <p>
+     * Compute the identical hash of the specified field. This value must be stable across JVMs
+     * because member-name tables are persisted.
+     * </p>
+     * 
+     * @param owner A owner class of the specified field.
+     * @param fieldName A field name in Java source code.
+     * @return A field hash.
+     */
+    static final int computeFieldHash(Class owner, String fieldName) {
+        return fieldName.hashCode() + owner.getName().hashCode();
+    }
+
     /**
      * <p>
      * Compute the accessible qualified field name for ECMAScript.
@@ -830,26 +1402,127 @@ public class Javascript {
 
     /**
      * <p>
-     * Helper method to do numbering for the specified member's id.
+     * Compile the specified script and fork compilation of all related scripts.
      * </p>
      * 
-     * @param members
-     * @param id
-     * @return
+     * @version 2026/10/17 10:12:34
      */
-    private static final int order(List<Integer> members, int id) {
-        // check cache
-        for (int i = 0; i < members.size(); i++) {
-            if (members.get(i).intValue() == id) {
-                return i;
+    @SuppressWarnings("serial")
+    private static class CompileTask extends RecursiveAction {
+
+        /** The target script. */
+        private final Javascript script;
+
+        /** The scripts which are already scheduled. */
+        private final Set<Javascript> visited;
+
+        /**
+         * @param script A target script.
+         * @param visited The scripts which are already scheduled.
+         */
+        private CompileTask(Javascript script, Set<Javascript> visited) {
+            this.script = script;
+            this.visited = visited;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            // record compile route
+            CompilerRecorder.startCompiling(script);
+
+            try {
+                script.compile();
+            } finally {
+                CompilerRecorder.finishCompiling(script);
+            }
+
+            List<CompileTask> tasks = new ArrayList();
+
+            for (Class type : script.collectRelated()) {
+                Javascript related = type == null ? null : getScript(type);
+
+                if (related != null && visited.add(related)) {
+                    tasks.add(new CompileTask(related, visited));
+                }
             }
+            invokeAll(tasks);
         }
+    }
 
-        // register as new member
-        members.add(id);
+    /**
+     * <p>
+     * The snapshot of the numbering before the parallel compilation. The class ids, the method and
+     * constructor ordinals and the CSS names which are assigned in the parallel compilation depend
+     * on the thread scheduling, so they are reassigned in the deterministic order after it.
+     * </p>
+     * 
+     * @version 2026/10/18 13:02:44
+     */
+    private static class Numbering {
 
-        // API definition
-        return members.size() - 1;
+        /** The scripted classes. */
+        private final Set<Class> classes = new HashSet(scripts.keySet());
+
+        /** The number of method ordinals. */
+        private final int methods = Javascript.methods.size();
+
+        /** The number of constructor ordinals for each class. */
+        private final Map<CompiledCodeStorage.Symbol, Integer> constructors = new HashMap();
+
+        /** The number of CSS names. */
+        private final int css = exportCSSNames().size();
+
+        /**
+         * Take the snapshot of the current numbering.
+         */
+        private Numbering() {
+            for (CompiledCodeStorage.Symbol symbol : storage.symbols()) {
+                constructors.put(symbol, symbol.constructors.size());
+            }
+        }
+
+        /**
+         * <p>
+         * Reassign the numbers which are assigned after the snapshot. The class ids are reassigned in
+         * order of class name, the others are reassigned in order of member id or CSS.
+         * </p>
+         * 
+         * @return <code>true</code> if some number is changed.
+         */
+        private boolean sort() {
+            boolean changed = Javascript.methods.sort(methods);
+
+            for (CompiledCodeStorage.Symbol symbol : storage.symbols()) {
+                changed |= symbol.constructors.sort(constructors.getOrDefault(symbol, 0));
+            }
+            changed |= sortCSSNames(css);
+
+            // the restored ids and the primitive ids are fixed
+            List<Javascript> created = new ArrayList();
+
+            for (Javascript script : scripts.values()) {
+                if (!classes.contains(script.source) && !storage.isReserved(script.id) && !primitiveIds.contains(script.id)) {
+                    created.add(script);
+                }
+            }
+            created.sort(Comparator.comparing(script -> script.source.getName()));
+
+            int[] ids = created.stream().mapToInt(script -> script.id).sorted().toArray();
+
+            for (int i = 0; i < ids.length; i++) {
+                Javascript script = created.get(i);
+
+                if (script.id != ids[i]) {
+                    script.id = ids[i];
+                    storage.symbol(script.source).id = ids[i];
+                    changed = true;
+                }
+            }
+            return changed;
+        }
     }
 
     /**
@@ -895,7 +1568,7 @@ public class Javascript {
     private static class CompiledCodeRepository {
 
         /** The cached codes. */
-        public Map<Class, CompiledCode> caches = new HashMap();
+        public Map<Class, CompiledCode> caches = new ConcurrentHashMap();
 
         /**
          * <p>
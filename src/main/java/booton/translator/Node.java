@@ -33,8 +33,8 @@ class Node {
     /** The frequently used operand for cache. */
     static final OperandExpression Return = new OperandExpression("return ");
 
-    /** The stack of labeled blocks. */
-    private static final Deque<Breakable> breakables = new ArrayDeque();
+    /** The stack of labeled blocks for each compiling thread. */
+    private static final ThreadLocal<Deque<Breakable>> breakables = ThreadLocal.withInitial(ArrayDeque::new);
 
     /** The identified label for this node. */
     final String id;
@@ -370,12 +370,12 @@ class Node {
             // We must search a immediate dominator.
             //
             // At first, we can ignore the older incoming nodes.
-            List<Node> candidates = new CopyOnWriteArrayList(incoming);
+            List<Node> candidates = new ArrayList(incoming.size());
 
-            // compute backedges
-            for (Node node : candidates) {
-                if (backedges.contains(node)) {
-                    candidates.remove(node);
+            // ignore backedges
+            for (Node node : incoming) {
+                if (!backedges.contains(node)) {
+                    candidates.add(node);
                 }
             }
 
@@ -568,7 +568,7 @@ class Node {
 
                 // enter switch
                 buffer.write("switch", "(" + switchy.value + ")", "{");
-                breakables.add(switchy);
+                breakables.get().add(switchy);
 
                 // each cases
                 for (Node node : switchy.cases()) {
@@ -584,7 +584,7 @@ class Node {
                     process(switchy.defaults, buffer);
                 }
 
-                breakables.pollLast();
+                breakables.get().pollLast();
 
                 // exit switch
                 buffer.append("}").line();
@@ -715,9 +715,9 @@ class Node {
 
         // re-write script fragment
         buffer.write("for", "(;;)", "{");
-        breakables.add(loop);
+        breakables.get().add(loop);
         write(buffer);
-        breakables.removeLast();
+        breakables.get().removeLast();
         buffer.write("}");
         loop.writeRequiredLabel();
     }
@@ -742,9 +742,9 @@ class Node {
 
         // re-write script fragment
         buffer.write("for", "(;;)", "{");
-        breakables.add(loop);
+        breakables.get().add(loop);
         write(buffer);
-        breakables.removeLast();
+        breakables.get().removeLast();
         buffer.write("}");
         loop.writeRequiredLabel();
         process(group.exit, buffer);
@@ -767,9 +767,9 @@ class Node {
 
             // write script fragment
             buffer.write("while", "(" + this + ")", "{");
-            breakables.add(loop);
+            breakables.get().add(loop);
             process(nodes[0], buffer);
-            breakables.removeLast();
+            breakables.get().removeLast();
             buffer.write("}").line();
             loop.writeRequiredLabel();
             process(nodes[1], buffer);
@@ -801,10 +801,10 @@ class Node {
 
         // write script fragment
         buffer.write("do", "{");
-        breakables.add(loop);
+        breakables.get().add(loop);
         buffer.append(this);
         process(outgoing.get(0), buffer);
-        breakables.removeLast();
+        breakables.get().removeLast();
         buffer.write("}", "while", "(" + condition + ")");
         loop.writeRequiredLabel();
         condition.process(exit, buffer);
@@ -841,9 +841,9 @@ class Node {
 
             // write script fragment
             buffer.write("for", "(;", this + ";", update + ")", "{");
-            breakables.add(loop);
+            breakables.get().add(loop);
             process(nodes[0], buffer);
-            breakables.removeLast();
+            breakables.get().removeLast();
             buffer.write("}").line();
             loop.writeRequiredLabel();
             process(nodes[1], buffer);
@@ -1274,7 +1274,7 @@ class Node {
          * @return
          */
         private String computeLabelFor(Node node) {
-            if (node.loops.contains(breakables.peekLast())) {
+            if (node.loops.contains(breakables.get().peekLast())) {
                 return "";
             } else {
                 requireLabel = true;
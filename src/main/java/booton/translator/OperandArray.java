@@ -126,14 +126,23 @@ class OperandArray extends Operand {
             undefined = "null";
         }
 
+        String typed = computeTypedArray(component);
         ScriptWriter writer = new ScriptWriter();
         writer.append("Φ(").string(Javascript.computeSimpleClassName(component)).append(",");
 
         if (items.size() == 0) {
             // new array with the specified size
-            writer.append(size, ",", undefined);
+            if (typed == null) {
+                writer.append(size, ",", undefined);
+            } else {
+                // typed array is filled by zero already
+                writer.append("new ", typed, "(", size, ")");
+            }
         } else {
             // new array by syntax sugar
+            if (typed != null) {
+                writer.append("new ", typed, "(");
+            }
             writer.append("[");
 
             int length = Integer.valueOf(size.toString()).intValue();
@@ -156,10 +165,39 @@ class OperandArray extends Operand {
                 }
             }
             writer.append("]");
+
+            if (typed != null) {
+                writer.append(")");
+            }
         }
         writer.append(")");
 
         // API definition
         return writer.toString();
     }
+
+    /**
+     * <p>
+     * Compute the typed array constructor for the specified component type. The float array uses
+     * 64-bit storage because float value is double precision number in runtime. The char array is
+     * not typed because char value is string in runtime, and the long and boolean arrays are not
+     * typed because those values are not number.
+     * </p>
+     * 
+     * @param component A component type.
+     * @return A constructor name or <code>null</code> if the component type has no typed array.
+     */
+    private static String computeTypedArray(Class component) {
+        if (component == int.class) {
+            return "Int32Array";
+        } else if (component == short.class) {
+            return "Int16Array";
+        } else if (component == byte.class) {
+            return "Int8Array";
+        } else if (component == float.class || component == double.class) {
+            return "Float64Array";
+        } else {
+            return null;
+        }
+    }
 }
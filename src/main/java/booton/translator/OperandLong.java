@@ -0,0 +1,173 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import static booton.translator.Javascript.*;
+
+/**
+ * <p>
+ * The primitive long operand whose value range is known at compile time. While the range stays
+ * within the exact integer of ECMAScript number (±2^53), the value is computed as plain number and
+ * is converted to the primitive long object only when it is used as long.
+ * </p>
+ *
+ * @version 2026/10/17 17:40:12
+ */
+class OperandLong extends Operand {
+
+    /** The maximum exact integer in ECMAScript number. */
+    private static final double MaxSafe = 9007199254740991D;
+
+    /** The exact integer number expression. */
+    final Operand number;
+
+    /** The minimum value. */
+    private final double min;
+
+    /** The maximum value. */
+    private final double max;
+
+    /**
+     * <p>
+     * Create long operand from the exact number expression.
+     * </p>
+     *
+     * @param number A number expression.
+     * @param min A minimum value.
+     * @param max A maximum value.
+     */
+    OperandLong(Operand number, double min, double max) {
+        this.number = number;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    InferredType infer() {
+        return new InferredType(long.class);
+    }
+
+    /**
+     * <p>
+     * Compute the sum of this and the specified value.
+     * </p>
+     *
+     * @param other A value to add.
+     * @return A result or <code>null</code> if the result may be inexact.
+     */
+    OperandLong add(OperandLong other) {
+        return combine(other, "+", min + other.min, max + other.max);
+    }
+
+    /**
+     * <p>
+     * Compute the difference of this and the specified value.
+     * </p>
+     *
+     * @param other A value to subtract.
+     * @return A result or <code>null</code> if the result may be inexact.
+     */
+    OperandLong subtract(OperandLong other) {
+        return combine(other, "-", min - other.max, max - other.min);
+    }
+
+    /**
+     * <p>
+     * Compute the product of this and the specified value.
+     * </p>
+     *
+     * @param other A value to multiply.
+     * @return A result or <code>null</code> if the result may be inexact.
+     */
+    OperandLong multiply(OperandLong other) {
+        double a = min * other.min;
+        double b = min * other.max;
+        double c = max * other.min;
+        double d = max * other.max;
+
+        return combine(other, "*", Math.min(Math.min(a, b), Math.min(c, d)), Math.max(Math.max(a, b), Math.max(c, d)));
+    }
+
+    /**
+     * <p>
+     * Compute the negation of this value.
+     * </p>
+     *
+     * @return A result.
+     */
+    OperandLong negate() {
+        return new OperandLong(new OperandExpression("-" + number.encolose()).encolose(), -max, -min);
+    }
+
+    /**
+     * <p>
+     * Helper method to build the binary operation.
+     * </p>
+     *
+     * @param other A right operand.
+     * @param operator A operator.
+     * @param min A minimum value of the result.
+     * @param max A maximum value of the result.
+     * @return A result or <code>null</code> if the result may be inexact.
+     */
+    private OperandLong combine(OperandLong other, String operator, double min, double max) {
+        if (min < -MaxSafe || MaxSafe < max) {
+            return null;
+        }
+        return new OperandLong(new OperandExpression(number.encolose() + operator + other.number.encolose())
+                .encolose(), min, max);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        if (number instanceof OperandNumber) {
+            return writePrimitiveCode(((OperandNumber) number).value.longValue());
+        }
+
+        if (Integer.MIN_VALUE <= min && max <= Integer.MAX_VALUE) {
+            return writeMethodCode(PrimitiveLong, "fromInt", int.class, number);
+        } else {
+            return writeMethodCode(PrimitiveLong, "fromNumber", double.class, number);
+        }
+    }
+
+    /**
+     * <p>
+     * Create long operand from the constant value.
+     * </p>
+     *
+     * @param value A constant value.
+     * @return A created operand or <code>null</code> if the value is not exact number.
+     */
+    static OperandLong of(long value) {
+        if (value < -MaxSafe || MaxSafe < value) {
+            return null;
+        }
+        return new OperandLong(new OperandNumber(value), value, value);
+    }
+
+    /**
+     * <p>
+     * Create long operand from the int expression.
+     * </p>
+     *
+     * @param value An int expression.
+     * @return A created operand.
+     */
+    static OperandLong of(Operand value) {
+        return new OperandLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+}
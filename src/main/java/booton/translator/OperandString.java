@@ -9,11 +9,16 @@
  */
 package booton.translator;
 
+import java.util.regex.Pattern;
+
 /**
  * @version 2013/08/15 16:35:58
  */
 class OperandString extends Operand {
 
+    /** The private use characters which are reserved for the in-band markers of {@link TreeShaker}. */
+    private static final Pattern Markers = Pattern.compile("[\uE000-\uE006]");
+
     /** The actual string expression of this operand. */
     final String expression;
 
@@ -21,10 +26,14 @@ class OperandString extends Operand {
      * Create String operand.
      */
     OperandString(String expression) {
-        this.expression = expression.replaceAll("\\\\", "\\\\\\\\")
+        String escaped = expression.replaceAll("\\\\", "\\\\\\\\")
                 .replaceAll("\"", "\\\\\"")
                 .replaceAll("\r", "\\\\r")
                 .replaceAll("\n", "\\\\n");
+
+        // the marker character in literal must not be recognized by tree shaker
+        this.expression = Markers.matcher(escaped)
+                .replaceAll(match -> "\\\\u" + Integer.toHexString(match.group().charAt(0)).toUpperCase());
     }
 
     /**
@@ -9,6 +9,7 @@
  */
 package booton.translator;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -20,21 +21,56 @@ import booton.BootonConfiguration;
 import kiss.I;
 
 /**
- * @version 2013/11/26 11:29:00
+ * <p>
+ * The code writer which formats and trims the generated script. If the streaming output is
+ * specified, the finished members are flushed into it and only the bounded tail is retained for
+ * the backward trimming, so the buffer size doesn't depend on the size of the whole code.
+ * </p>
+ * 
+ * @version 2026/10/17 15:48:20
  */
 class ScriptWriter {
 
+    /** The retained tail size which the backward trimming can look back. */
+    private static final int LookBack = 1024;
+
     /** The optimization flag. */
     private final BootonConfiguration config = I.make(BootonConfiguration.class);
 
     /** The actual buffer. */
     private final StringBuilder buffer = new StringBuilder();
 
+    /** The streaming output, <code>null</code> means that all code is buffered. */
+    private final Appendable output;
+
+    /** The number of characters which are already flushed into the streaming output. */
+    private int flushed = 0;
+
     private int mark = 0;
 
     /** The current depth of indentation for debug. */
     private int depth = 0;
 
+    /**
+     * <p>
+     * Create the buffered writer.
+     * </p>
+     */
+    ScriptWriter() {
+        this(null);
+    }
+
+    /**
+     * <p>
+     * Create the streaming writer.
+     * </p>
+     * 
+     * @param output A streaming output, <code>null</code> means that all code is buffered.
+     */
+    ScriptWriter(Appendable output) {
+        this.output = output;
+    }
+
     /**
      * <p>
      * Append debug infomation.
@@ -148,7 +184,7 @@ class ScriptWriter {
      * @return
      */
     public ScriptWriter insertAt(int position, Object fragment) {
-        buffer.insert(position, fragment);
+        buffer.insert(position - flushed, fragment);
 
         // API definition
         return this;
@@ -244,7 +280,7 @@ class ScriptWriter {
             return 0;
         }
 
-        while (Character.isWhitespace(buffer.charAt(last))) {
+        while (0 < last && Character.isWhitespace(buffer.charAt(last))) {
             buffer.deleteCharAt(last--);
         }
         return last;
@@ -334,7 +370,7 @@ class ScriptWriter {
                 int last = buffer.length() - 1;
                 int lastNonSpace = last;
 
-                while (Character.isWhitespace(buffer.charAt(lastNonSpace))) {
+                while (0 < lastNonSpace && Character.isWhitespace(buffer.charAt(lastNonSpace))) {
                     lastNonSpace--;
                 }
 
@@ -401,14 +437,92 @@ class ScriptWriter {
      * @return
      */
     ScriptWriter mark() {
-        mark = buffer.length();
+        mark = length();
+
+        // API definition
+        return this;
+    }
+
+    /**
+     * <p>
+     * Create the buffered writer which has the same indentation as this writer. The forked code is
+     * merged by {@link #merge(ScriptWriter)}.
+     * </p>
+     * 
+     * @return A forked writer.
+     */
+    ScriptWriter fork() {
+        ScriptWriter fork = new ScriptWriter();
+        fork.depth = depth;
+
+        return fork;
+    }
+
+    /**
+     * <p>
+     * Append the code of the forked writer as it is.
+     * </p>
+     * 
+     * @param fork A forked writer.
+     * @return A chainable API.
+     */
+    ScriptWriter merge(ScriptWriter fork) {
+        buffer.append(fork.buffer);
 
         // API definition
         return this;
     }
 
     String toFragment() {
-        return buffer.substring(mark);
+        return buffer.substring(Math.max(0, mark - flushed));
+    }
+
+    /**
+     * <p>
+     * Flush the finished code into the streaming output except the tail which the backward
+     * trimming may modify. This method must be called at the member boundary because the insertion
+     * position and the marked position must stay in the buffer.
+     * </p>
+     * 
+     * @return A chainable API.
+     */
+    ScriptWriter flush() {
+        // flush in large chunk to amortize the tail copy
+        if (output != null && LookBack * 4 < buffer.length()) {
+            transfer(buffer.length() - LookBack);
+        }
+
+        // API definition
+        return this;
+    }
+
+    /**
+     * <p>
+     * Flush all code into the streaming output. The trimming never reaches the flushed code, so
+     * this writer must not be used after closing.
+     * </p>
+     */
+    void close() {
+        if (output != null) {
+            transfer(buffer.length());
+        }
+    }
+
+    /**
+     * <p>
+     * Helper method to move the head of buffer into the streaming output.
+     * </p>
+     * 
+     * @param size A size to move.
+     */
+    private void transfer(int size) {
+        try {
+            output.append(buffer, 0, size);
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+        buffer.delete(0, size);
+        flushed += size;
     }
 
     /**
@@ -419,9 +533,10 @@ class ScriptWriter {
      * @return
      */
     public int length() {
-        return buffer.length();
+        return flushed + buffer.length();
     }
 
+
     /**
      * @see java.lang.Object#toString()
      */
@@ -0,0 +1,234 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import static booton.translator.Javascript.*;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import booton.Obfuscator;
+import jsx.style.StaticStyle;
+import jsx.style.Style;
+import kiss.I;
+
+/**
+ * <p>
+ * Build-time extractor of the statically declared {@link Style} (the static final field which is
+ * initialized by lambda). The style is evaluated on Java runtime and its rules are written into the
+ * style sheet file with the obfuscated class name. The static initializer of the declaring class
+ * registers the style at runtime, so the style is never defined by script.
+ * </p>
+ * <p>
+ * The style which depends on the runtime environment or refers the dynamic style is not extracted
+ * and is defined by script as before.
+ * </p>
+ *
+ * @version 2026/10/17 21:10:48
+ */
+public class StaticStyleCompiler {
+
+    /** The member name of the style registration. */
+    static final String Registration = "ς";
+
+    /** The extracted fields of each class. */
+    private static final Map<Class, List<Field>> extracted = new ConcurrentHashMap();
+
+    /**
+     * <p>
+     * Hide constructor.
+     * </p>
+     */
+    private StaticStyleCompiler() {
+    }
+
+    /**
+     * <p>
+     * Collect the extractable styles which are declared in the specified class.
+     * </p>
+     *
+     * @param source A target class.
+     * @return A list of style fields.
+     */
+    static List<Field> collect(Class source) {
+        return extracted.computeIfAbsent(source, StaticStyleCompiler::extract);
+    }
+
+    /**
+     * <p>
+     * Write the registration member of the extracted styles into the class definition.
+     * </p>
+     *
+     * @param source A target class.
+     * @param code A code writer.
+     */
+    static void compile(Class source, ScriptWriter code) {
+        List<Field> fields = collect(source);
+
+        if (!fields.isEmpty()) {
+            StringBuilder body = new StringBuilder();
+
+            for (Field field : fields) {
+                String name = '"' + findCSSName(field) + '"';
+
+                body.append(writeMethodCode(StaticStyle.class, "register", Style.class, "this." + computeFieldName(field), String.class, name))
+                        .append(";");
+            }
+
+            TreeShaker.startMember(code, Registration, true);
+            code.append("_", Registration, ":function(){", body, "}");
+            TreeShaker.endMember(code);
+            code.separator();
+        }
+    }
+
+    /**
+     * <p>
+     * Write all extracted styles into the specified file. The rules are evaluated again with the
+     * latest class names.
+     * </p>
+     *
+     * @param file A style sheet file.
+     */
+    public static void write(Path file) {
+        Map<String, Style> styles = new TreeMap();
+
+        for (List<Field> fields : extracted.values()) {
+            for (Field field : fields) {
+                Style style = read(field);
+                String name = findCSSName(field);
+
+                StaticStyle.register(style, name);
+                styles.put(name, style);
+            }
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        for (Style style : styles.values()) {
+            String rules = evaluate(style);
+
+            if (rules != null) {
+                builder.append(rules);
+            }
+        }
+
+        try {
+            Files.write(file, builder.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw I.quiet(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Extract the statically declared styles actually.
+     * </p>
+     *
+     * @param source A target class.
+     * @return A list of style fields.
+     */
+    private static List<Field> extract(Class source) {
+        List<Field> fields = new ArrayList();
+
+        if (source.isAnnotation() || TranslatorManager.hasTranslator(source)) {
+            return fields;
+        }
+
+        for (Field field : source.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+
+            if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == Style.class) {
+                Style style = read(field);
+
+                // the lambda style has no own name, so the assigned name is used for it
+                if (style != null && style.getClass().isSynthetic()) {
+                    StaticStyle.register(style, computeCSSName(field));
+
+                    if (evaluate(style) == null) {
+                        StaticStyle.unregister(style);
+                    } else {
+                        fields.add(field);
+                    }
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * <p>
+     * Read the style from the specified static field.
+     * </p>
+     *
+     * @param field A static field.
+     * @return A style or <code>null</code> if the declaring class can't be initialized on Java
+     *         runtime.
+     */
+    private static Style read(Field field) {
+        try {
+            field.setAccessible(true);
+
+            return (Style) field.get(null);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Evaluate the rules of the registered style on Java runtime.
+     * </p>
+     *
+     * @param style A registered style.
+     * @return A style sheet text or <code>null</code> if the style can't be extracted.
+     */
+    private static String evaluate(Style style) {
+        try {
+            return StaticStyle.extract(style);
+        } catch (Throwable e) {
+            // the style depends on the runtime environment
+            return null;
+        }
+    }
+
+    /**
+     * <p>
+     * Find the obfuscated class name of the specified style field without counting the reference.
+     * </p>
+     *
+     * @param field A style field.
+     * @return A class name.
+     */
+    private static String findCSSName(Field field) {
+        return Obfuscator.findCSSName(field.getDeclaringClass().getName() + "." + field.getName());
+    }
+
+    /**
+     * <p>
+     * Compute the obfuscated class name of the specified style field.
+     * </p>
+     *
+     * @param field A style field.
+     * @return A class name.
+     */
+    private static String computeCSSName(Field field) {
+        return Obfuscator.computeCSSName(field.getDeclaringClass().getName() + "." + field.getName());
+    }
+}
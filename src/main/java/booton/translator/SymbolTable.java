@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * The interned symbol table which assigns the stable ordinal to each member id in order of
+ * registration. The lookup uses primitive open addressing hash, so member numbering is O(1).
+ * </p>
+ *
+ * @version 2026/10/17 13:20:41
+ */
+class SymbolTable {
+
+    /** The hashed member ids. */
+    private int[] keys = new int[16];
+
+    /** The ordinal + 1 for each hashed member id, 0 means empty slot. */
+    private int[] ordinals = new int[16];
+
+    /** The member ids in order of registration. */
+    private int[] ids = new int[8];
+
+    /** The number of registered ids. */
+    private int size;
+
+    /**
+     * <p>
+     * Compute the ordinal of the specified member id. Unknown id is registered as new member.
+     * </p>
+     *
+     * @param id A member id.
+     * @return An ordinal.
+     */
+    synchronized int order(int id) {
+        int mask = keys.length - 1;
+        int index = mix(id) & mask;
+
+        while (ordinals[index] != 0) {
+            if (keys[index] == id) {
+                return ordinals[index] - 1;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // register as new member
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size] = id;
+        keys[index] = id;
+        ordinals[index] = ++size;
+
+        // keep load factor under 0.5
+        if (keys.length < size * 2) {
+            rehash(keys.length * 2);
+        }
+
+        // API definition
+        return size - 1;
+    }
+
+    /**
+     * <p>
+     * Check whether the specified member id is registered or not.
+     * </p>
+     *
+     * @param id A member id.
+     * @return A result.
+     */
+    synchronized boolean contains(int id) {
+        int mask = keys.length - 1;
+        int index = mix(id) & mask;
+
+        while (ordinals[index] != 0) {
+            if (keys[index] == id) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * <p>
+     * Register all member ids of the specified table in its order.
+     * </p>
+     *
+     * @param table A source table.
+     */
+    void addAll(SymbolTable table) {
+        for (int id : table.toArray()) {
+            order(id);
+        }
+    }
+
+    /**
+     * <p>
+     * Reorder the members which are registered after the specified ordinal in ascending order of
+     * member id, so the ordinals don't depend on the order of registration.
+     * </p>
+     *
+     * @param from The first ordinal to reorder.
+     * @return <code>true</code> if some ordinal is changed.
+     */
+    synchronized boolean sort(int from) {
+        if (size - from < 2) {
+            return false;
+        }
+
+        int[] sorted = Arrays.copyOfRange(ids, from, size);
+        Arrays.sort(sorted);
+
+        if (Arrays.equals(sorted, 0, sorted.length, ids, from, size)) {
+            return false;
+        }
+        System.arraycopy(sorted, 0, ids, from, sorted.length);
+        rehash(keys.length);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Check whether this table starts with all members of the specified table in same order.
+     * </p>
+     *
+     * @param prefix A prefix table.
+     * @return A result.
+     */
+    boolean startsWith(SymbolTable prefix) {
+        int[] self = toArray();
+        int[] other = prefix.toArray();
+
+        return other.length <= self.length && Arrays.equals(self, 0, other.length, other, 0, other.length);
+    }
+
+    /**
+     * <p>
+     * Retrieve the number of registered members.
+     * </p>
+     *
+     * @return A size.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * <p>
+     * Check whether this table is empty or not.
+     * </p>
+     *
+     * @return A result.
+     */
+    synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * <p>
+     * Remove all members.
+     * </p>
+     */
+    synchronized void clear() {
+        Arrays.fill(ordinals, 0);
+        size = 0;
+    }
+
+    /**
+     * <p>
+     * Retrieve all member ids in order of registration.
+     * </p>
+     *
+     * @return A snapshot of member ids.
+     */
+    synchronized int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * <p>
+     * Grow the hash slots.
+     * </p>
+     *
+     * @param capacity A new capacity (power of two).
+     */
+    private void rehash(int capacity) {
+        keys = new int[capacity];
+        ordinals = new int[capacity];
+
+        int mask = capacity - 1;
+
+        for (int i = 0; i < size; i++) {
+            int index = mix(ids[i]) & mask;
+
+            while (ordinals[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = ids[i];
+            ordinals[index] = i + 1;
+        }
+    }
+
+    /**
+     * <p>
+     * Spread the bits of member id, because the most ids are {@link String#hashCode()}.
+     * </p>
+     *
+     * @param id A member id.
+     * @return A mixed hash.
+     */
+    private static int mix(int id) {
+        int hash = id * 0x9E3779B9;
+
+        return hash ^ (hash >>> 16);
+    }
+}
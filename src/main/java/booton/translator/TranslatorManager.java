@@ -16,13 +16,12 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.nio.file.Path;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.objectweb.asm.Type;
 
@@ -40,19 +39,19 @@ class TranslatorManager {
     private static final Set<String> ignorables = new HashSet();
 
     /** The native classes. */
-    private static final Set<Class> natives = new HashSet();
+    private static final Set<Class> natives = ConcurrentHashMap.newKeySet();
 
     /** The native fields. */
     private static final Map<Class, Set<String>> nativeFields = new ConcurrentHashMap();
 
     /** The native methods. */
-    private static final Map<Integer, List<Class>> nativeMethods = new HashMap();
+    private static final Map<Integer, List<Class>> nativeMethods = new ConcurrentHashMap();
 
     /** The native accessor methods. */
-    private static final Map<Integer, List<Class>> nativeAccessorMethods = new HashMap();
+    private static final Map<Integer, List<Class>> nativeAccessorMethods = new ConcurrentHashMap();
 
     /** The native accessor methods. */
-    private static final Map<Integer, String> nativeAccessorMethodNames = new HashMap();
+    private static final Map<Integer, String> nativeAccessorMethodNames = new ConcurrentHashMap();
 
     static {
         ignorables.add(Type.getDescriptor(Path.class));
@@ -69,7 +68,7 @@ class TranslatorManager {
      * 
      * @param nativeClass A target class to register.
      */
-    private static void register(Class nativeClass) {
+    private static synchronized void register(Class nativeClass) {
         if (natives.add(nativeClass)) {
             for (Class type : Model.collectTypes(nativeClass)) {
                 for (Class interfaceType : type.getInterfaces()) {
@@ -81,7 +80,7 @@ class TranslatorManager {
                             if (type.isInterface() || Modifier.isNative(method.getModifiers()) || method
                                     .isAnnotationPresent(JavascriptNativeProperty.class)) {
                                 nativeMethods
-                                        .computeIfAbsent(hash(method.getName(), Type.getMethodDescriptor(method)), k -> new ArrayList())
+                                        .computeIfAbsent(hash(method.getName(), Type.getMethodDescriptor(method)), k -> new CopyOnWriteArrayList())
                                         .add(nativeClass);
                             }
 
@@ -94,7 +93,7 @@ class TranslatorManager {
                                 if (name.length() == 0) {
                                     name = method.getName();
                                 }
-                                nativeAccessorMethods.computeIfAbsent(hash, k -> new ArrayList()).add(type);
+                                nativeAccessorMethods.computeIfAbsent(hash, k -> new CopyOnWriteArrayList()).add(type);
                                 nativeAccessorMethodNames.put(hash, name);
                             }
                         }
@@ -290,10 +289,9 @@ class TranslatorManager {
          */
         @Override
         protected String translateConstructor(Class owner, String desc, Class[] types, List<Operand> context) {
-            // append identifier of constructor method
-            context.add(new OperandNumber(Integer.valueOf(Javascript.computeMethodName(owner, "<init>", desc).substring(1))));
-
-            return "new " + Javascript.computeClassName(owner) + writeParameter(types, context);
+            // invoke the factory of constructor method directly
+            return Javascript.computeClassName(owner) + "." + Javascript
+                    .computeMethodName(owner, "<init>", desc) + writeParameter(types, context);
         }
 
         /**
@@ -0,0 +1,523 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * Method level dead code eliminator. Each compiled method is enclosed by the invisible markers
+ * which hold its name and the method names referred from its body, so the compiled code can be
+ * cached as it is. On writing, the reachable method names are computed from the entry points and
+ * the unreachable methods are removed.
+ * </p>
+ * <p>
+ * The method name is shared by all classes which declare the same signature, so the reachability
+ * is conservative for virtual dispatch. Constructors, static initializers, native methods, methods
+ * with runtime annotations (reflective entry point) and all methods of {@link booton.Necessary}
+ * classes are always kept.
+ * </p>
+ * <p>
+ * The member metadata (constructors, fields and methods) of each class is also enclosed by the
+ * markers. The classes which are used as class literal in the reachable code (and their super
+ * types) are treated as reflective, the member metadata of the other classes can be pruned.
+ * </p>
+ *
+ * @version 2026/10/17 15:12:08
+ */
+class TreeShaker {
+
+    /** The marker of member start. */
+    private static final char Start = '\uE000';
+
+    /** The marker of member body start. */
+    private static final char Body = '\uE001';
+
+    /** The marker of member body end. */
+    private static final char End = '\uE002';
+
+    /** The marker of member end. */
+    private static final char Close = '\uE003';
+
+    /** The marker of metadata start. */
+    private static final char Reflection = '\uE004';
+
+    /** The marker of metadata body start. */
+    private static final char Metadata = '\uE005';
+
+    /** The marker of metadata end. */
+    private static final char Finish = '\uE006';
+
+    /** The prefix of entry point member. */
+    private static final char Entry = '!';
+
+    /** The prefix of class reference. */
+    private static final String ClassReference = "#";
+
+    /** The referred names of the current compiling class and members. */
+    private static final ThreadLocal<Deque<Set<String>>> references = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /** The method elimination flag. */
+    private final boolean shaking;
+
+    /** The metadata pruning flag. */
+    private final boolean pruning;
+
+    /** The method definitions, name to referred names. */
+    private final Map<String, List<String[]>> definitions = new HashMap();
+
+    /** The entry point method names. */
+    private final Deque<String> roots = new ArrayDeque();
+
+    /** The reachable method names and class references. */
+    private final Set<String> reachable = new HashSet();
+
+    /**
+     * @param shaking The method elimination flag.
+     * @param pruning The metadata pruning flag.
+     */
+    TreeShaker(boolean shaking, boolean pruning) {
+        this.shaking = shaking;
+        this.pruning = pruning;
+    }
+
+    /**
+     * <p>
+     * Start compiling class.
+     * </p>
+     */
+    static void startClass() {
+        references.get().push(new HashSet());
+    }
+
+    /**
+     * <p>
+     * Finish compiling class. The names which are referred from outside of members (e.g. metadata)
+     * are written as entry point.
+     * </p>
+     *
+     * @param code A code writer.
+     */
+    static void endClass(ScriptWriter code) {
+        Set<String> set = references.get().poll();
+
+        code.append(new StringBuilder().append(Start).append(Entry).append(Body).append(End).append(join(set)).append(Close));
+    }
+
+    /**
+     * <p>
+     * Start compiling member.
+     * </p>
+     *
+     * @param code A code writer.
+     * @param name A member name without static prefix.
+     * @param entry <code>true</code> if the member must be kept always.
+     */
+    static void startMember(ScriptWriter code, String name, boolean entry) {
+        code.append(new StringBuilder().append(Start).append(entry ? String.valueOf(Entry) : "").append(name).append(Body));
+
+        references.get().push(new HashSet());
+    }
+
+    /**
+     * <p>
+     * Finish compiling member.
+     * </p>
+     *
+     * @param code A code writer.
+     */
+    static void endMember(ScriptWriter code) {
+        Set<String> set = references.get().poll();
+
+        code.append(new StringBuilder().append(End).append(join(set)).append(Close));
+    }
+
+    /**
+     * <p>
+     * Start writing member metadata of the specified class.
+     * </p>
+     *
+     * @param code A code writer.
+     * @param name A simple class name of the owner class.
+     */
+    static void startMetadata(ScriptWriter code, String name) {
+        code.append(new StringBuilder().append(Reflection).append(name).append(Metadata));
+
+    }
+
+    /**
+     * <p>
+     * Finish writing member metadata.
+     * </p>
+     *
+     * @param code A code writer.
+     */
+    static void endMetadata(ScriptWriter code) {
+        code.append(String.valueOf(Finish));
+    }
+
+    /**
+     * <p>
+     * Record the method name which is referred from the current compiling member.
+     * </p>
+     *
+     * @param name A referred method name.
+     */
+    static void record(String name) {
+        Set<String> set = references.get().peek();
+
+        if (set != null && name.length() != 0) {
+            set.add(name);
+        }
+    }
+
+    /**
+     * <p>
+     * Record the class which is referred as class literal from the current compiling member. Its
+     * super types are also recorded because reflection walks the class hierarchy.
+     * </p>
+     *
+     * @param clazz A referred class.
+     */
+    static void recordClass(Class clazz) {
+        if (clazz == null || references.get().isEmpty()) {
+            return;
+        }
+
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+
+        if (!clazz.isPrimitive()) {
+            record(ClassReference + Javascript.computeSimpleClassName(clazz));
+
+            for (Class type : clazz.getInterfaces()) {
+                recordClass(type);
+            }
+            recordClass(clazz.getSuperclass());
+        }
+    }
+
+    /**
+     * <p>
+     * Record all method names which are referred while the specified code is generated.
+     * </p>
+     *
+     * @param names A container of referred method names.
+     * @param coder A code generator.
+     * @return A generated code.
+     */
+    static <T> T record(Set<String> names, Supplier<T> coder) {
+        references.get().push(names);
+
+        try {
+            return coder.get();
+        } finally {
+            references.get().poll();
+        }
+    }
+
+    /**
+     * <p>
+     * Remove all markers from the compiled code without elimination.
+     * </p>
+     *
+     * @param code A compiled code.
+     * @return A plain code.
+     */
+    static String strip(String code) {
+        return strip(code, null, null);
+    }
+
+    /**
+     * <p>
+     * Create the output which removes all markers from the written code without elimination. The
+     * code is passed through without buffering.
+     * </p>
+     *
+     * @param output An actual output.
+     * @return A stripping output.
+     */
+    static Appendable strip(Appendable output) {
+        return new Stripper(output);
+    }
+
+    /**
+     * <p>
+     * Register the compiled code.
+     * </p>
+     *
+     * @param code A compiled code.
+     */
+    void add(String code) {
+        // the owner class of members for reflective access
+        int index = code.indexOf(Reflection);
+        String owner = index == -1 ? null : ClassReference + code.substring(index + 1, code.indexOf(Metadata, index));
+
+        index = 0;
+
+        while ((index = code.indexOf(Start, index)) != -1) {
+            int body = code.indexOf(Body, index);
+            int end = code.indexOf(End, body);
+            int close = code.indexOf(Close, end);
+            boolean entry = code.charAt(index + 1) == Entry;
+            String name = code.substring(entry ? index + 2 : index + 1, body);
+            String[] referred = end + 1 == close ? new String[0] : code.substring(end + 1, close).split(" ");
+
+            if (entry || !shaking) {
+                root(name);
+                Collections.addAll(roots, referred);
+            }
+            definitions.computeIfAbsent(name, key -> new ArrayList()).add(referred);
+
+            // the reflectively used class makes all its members reachable
+            if (owner != null && !entry) {
+                definitions.computeIfAbsent(owner, key -> new ArrayList()).add(new String[] {name});
+            }
+            index = close + 1;
+        }
+    }
+
+    /**
+     * <p>
+     * Register the entry point method name.
+     * </p>
+     *
+     * @param name A method name.
+     */
+    void root(String name) {
+        roots.add(name);
+    }
+
+    /**
+     * <p>
+     * Compute all reachable method names and class references from the entry points.
+     * </p>
+     *
+     * @return A set of reachable method names and class references.
+     */
+    Set<String> shake() {
+        while (!roots.isEmpty()) {
+            String name = roots.pollFirst();
+
+            if (reachable.add(name)) {
+                List<String[]> list = definitions.get(name);
+
+                if (list != null) {
+                    for (String[] referred : list) {
+                        Collections.addAll(roots, referred);
+                    }
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * <p>
+     * Remove all markers, unreachable members and unused metadata from the compiled code.
+     * </p>
+     *
+     * @param code A compiled code.
+     * @return A plain code.
+     */
+    String write(String code) {
+        return strip(code, shaking ? reachable : null, pruning ? reachable : null);
+    }
+
+    /**
+     * <p>
+     * Remove all markers, unreachable members and unused metadata from the compiled code and write
+     * it into the specified output. Without elimination, the code is written without copy.
+     * </p>
+     *
+     * @param code A compiled code.
+     * @param output An output.
+     */
+    void write(String code, Appendable output) throws IOException {
+        if (shaking || pruning) {
+            output.append(write(code));
+        } else {
+            strip(output).append(code);
+        }
+    }
+
+    /**
+     * <p>
+     * Remove all markers, unreachable members and unused metadata from the compiled code.
+     * </p>
+     *
+     * @param code A compiled code.
+     * @param members A set of reachable method names, <code>null</code> keeps all members.
+     * @param classes A set of class references, <code>null</code> keeps all metadata.
+     * @return A plain code.
+     */
+    private static String strip(String code, Set<String> members, Set<String> classes) {
+        StringBuilder builder = null;
+        int index = 0;
+
+        for (int i = 0; i < code.length(); i++) {
+            char c = code.charAt(i);
+
+            if (c != Start && c != Reflection) {
+                continue;
+            }
+
+            if (builder == null) {
+                builder = new StringBuilder(code.length());
+            }
+            builder.append(code, index, i);
+
+            if (c == Reflection) {
+                int body = code.indexOf(Metadata, i);
+                int end = code.indexOf(Finish, body);
+
+                if (classes == null || classes.contains(ClassReference + code.substring(i + 1, body))) {
+                    builder.append(code, body + 1, end);
+                }
+                index = end + 1;
+            } else {
+                int body = code.indexOf(Body, i);
+                int end = code.indexOf(End, body);
+                int close = code.indexOf(Close, end);
+
+                if (members == null || code.charAt(i + 1) == Entry || members.contains(code.substring(i + 1, body))) {
+                    builder.append(code, body + 1, end);
+                    index = close + 1;
+                } else {
+                    // remove the following separator with the member
+                    index = skipWhitespace(code, close + 1);
+
+                    if (index < code.length() && code.charAt(index) == ',') {
+                        index = skipWhitespace(code, index + 1);
+                    } else {
+                        // the last member, remove the preceding separator instead
+                        int last = builder.length() - 1;
+
+                        while (0 <= last && Character.isWhitespace(builder.charAt(last))) {
+                            last--;
+                        }
+
+                        if (0 <= last && builder.charAt(last) == ',') {
+                            builder.setLength(last);
+                        }
+                    }
+                }
+            }
+            i = index - 1;
+        }
+        return builder == null ? code : builder.append(code, index, code.length()).toString();
+    }
+
+    /**
+     * <p>
+     * Helper method to join the referred names.
+     * </p>
+     *
+     * @param names A set of names.
+     * @return A joined names.
+     */
+    private static String join(Set<String> names) {
+        return names == null ? "" : String.join(" ", names);
+    }
+
+    /**
+     * <p>
+     * Helper method to skip whitespaces.
+     * </p>
+     *
+     * @param code A target code.
+     * @param index A start index.
+     * @return A next non-whitespace index.
+     */
+    private static int skipWhitespace(String code, int index) {
+        while (index < code.length() && Character.isWhitespace(code.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * <p>
+     * The output which drops the markers, the member names and the referred names on the fly.
+     * </p>
+     *
+     * @version 2026/10/17 15:48:20
+     */
+    private static class Stripper implements Appendable {
+
+        /** The actual output. */
+        private final Appendable output;
+
+        /** The flag whether the current character is in the marker section or not. */
+        private boolean skip;
+
+        /**
+         * @param output An actual output.
+         */
+        private Stripper(Appendable output) {
+            this.output = output;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Appendable append(CharSequence sequence) throws IOException {
+            return append(sequence, 0, sequence.length());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Appendable append(CharSequence sequence, int start, int end) throws IOException {
+            int from = start;
+
+            for (int i = start; i < end; i++) {
+                char c = sequence.charAt(i);
+
+                if (Start <= c && c <= Finish) {
+                    if (!skip && from < i) {
+                        output.append(sequence, from, i);
+                    }
+
+                    // the name section follows the start markers
+                    skip = c == Start || c == End || c == Reflection;
+                    from = i + 1;
+                }
+            }
+
+            if (!skip && from < end) {
+                output.append(sequence, from, end);
+            }
+            return this;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Appendable append(char c) throws IOException {
+            return append(String.valueOf(c));
+        }
+    }
+}
+
@@ -18,6 +18,7 @@ import booton.translator.JavascriptAPIProvider;
 import booton.translator.JavascriptNative;
 import booton.translator.JavascriptNativeProperty;
 import js.lang.NativeCSSRuleList;
+import jsx.style.StaticStyle;
 import jsx.style.Style;
 import jsx.style.StyleRule;
 import jsx.style.value.AnimationFrames;
@@ -90,7 +91,8 @@ public class CSSStyleSheet implements JavascriptNative {
      * @param style A target style to define.
      */
     public static void define(Style style, boolean root) {
-        if (style != null && styles.add(style)) {
+        // the statically declared style is defined in the extracted style sheet
+        if (style != null && !StaticStyle.contains(style) && styles.add(style)) {
             WidgetLog.DefineStyle.start();
             define(StyleRule.create("$", style, root));
             WidgetLog.DefineStyle.stop();
@@ -454,6 +454,27 @@ public abstract class Element extends Node<Element>implements JavascriptNative {
     @JavascriptNativePropertyAccessor
     public native CSSStyleDeclaration style();
 
+    /**
+     * <p>
+     * Gets the number of pixels that the content of this element is scrolled upward.
+     * </p>
+     * 
+     * @return
+     */
+    @JavascriptNativePropertyAccessor
+    public native double scrollTop();
+
+    /**
+     * <p>
+     * Returns the inner height of this element in pixels, including padding but not the horizontal
+     * scrollbar height, border, or margin.
+     * </p>
+     * 
+     * @return
+     */
+    @JavascriptNativePropertyAccessor
+    public native double clientHeight();
+
     @JavascriptNativePropertyAccessor
     protected abstract String value();
 
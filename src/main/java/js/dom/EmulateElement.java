@@ -632,6 +632,22 @@ class EmulateElement extends Element implements EmulateNodable {
         return new EmulateClientRect();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double scrollTop() {
+        return 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double clientHeight() {
+        return 0;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -37,6 +37,15 @@ public abstract class Window extends EventTarget<Window>implements JavascriptNat
     @JavascriptNativeProperty
     public String language = "en";
 
+    /**
+     * <p>
+     * Height (in pixels) of the browser window viewport including, if rendered, the horizontal
+     * scrollbar.
+     * </p>
+     */
+    @JavascriptNativeProperty
+    public int innerHeight = 768;
+
     /**
      * <p>
      * Gives the final used values of all the CSS properties of an element.
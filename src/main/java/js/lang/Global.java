@@ -449,6 +449,15 @@ public class Global {
      */
     static native NativeError error();
 
+    /**
+     * <p>
+     * Evaluate the specified code at global scope.
+     * </p>
+     * 
+     * @param code A javascript code.
+     */
+    public static native void eval(String code);
+
     /**
      * @version 2015/09/29 2:59:31
      */
@@ -836,6 +845,17 @@ public class Global {
         public String error() {
             return "boot.error()";
         }
+
+        /**
+         * <p>
+         * Evaluate the specified code at global scope.
+         * </p>
+         * 
+         * @param code A javascript code.
+         */
+        public String eval(String code) {
+            return "(0,eval)(" + param(0) + ")";
+        }
     }
 
     /**
@@ -769,6 +769,9 @@ class JSLong extends JSNumber {
         /** The reusable magic number. Don't use long. */
         private static final double TWO_PWR_63 = 9223372036854776000D;
 
+        /** The maximum exact integer in number. Don't use long. */
+        private static final double MAX_SAFE = 9007199254740991D;
+
         /** The reusable cache. */
         private static final Primitive[] IntCache_ = new Primitive[256];
 
@@ -815,6 +818,17 @@ class JSLong extends JSNumber {
          * @return The sum of this and the given Long.
          */
         public Primitive add(Primitive other) {
+            if (other.isZero()) {
+                return this;
+            } else if (isZero()) {
+                return other;
+            }
+
+            // If both longs are int, the sum is exact number.
+            if (isInt() && other.isInt()) {
+                return fromExactNumber((double) l + other.l);
+            }
+
             // Divide each number into 4 chunks of 16 bits, and then sum the chunks.
             int a48 = this.h >>> 16;
             int a32 = this.h & 0xFFFF;
@@ -849,6 +863,14 @@ class JSLong extends JSNumber {
          * @return The difference of this and the given long.
          */
         public Primitive subtract(Primitive other) {
+            if (other.isZero()) {
+                return this;
+            }
+
+            // If both longs are int, the difference is exact number.
+            if (isInt() && other.isInt()) {
+                return fromExactNumber((double) l - other.l);
+            }
             return add(other.negate());
         }
 
@@ -865,6 +887,15 @@ class JSLong extends JSNumber {
                 return ZERO;
             }
 
+            // If both longs are int and the product is exact number, use it.
+            if (isInt() && other.isInt()) {
+                double product = (double) l * other.l;
+
+                if (-MAX_SAFE <= product && product <= MAX_SAFE) {
+                    return fromExactNumber(product);
+                }
+            }
+
             if (equals(MIN_VALUE)) {
                 return other.isOdd() ? MIN_VALUE : ZERO;
             } else if (other.equals(MIN_VALUE)) {
@@ -1027,6 +1058,10 @@ class JSLong extends JSNumber {
             if (this == MIN_VALUE) {
                 return MIN_VALUE;
             }
+
+            if (isInt()) {
+                return fromExactNumber(-(double) l);
+            }
             return fromBits(~l, ~h).add(ONE);
         }
 
@@ -1165,6 +1200,10 @@ class JSLong extends JSNumber {
                 return "0";
             }
 
+            if (isInt()) {
+                return Integer.toString(l);
+            }
+
             if (isNegative()) {
                 return "-".concat(negate().toString());
             }
@@ -1308,6 +1347,15 @@ class JSLong extends JSNumber {
             return h == 0 && l == 0;
         }
 
+        /**
+         * The value is in int range or not.
+         * 
+         * @return
+         */
+        private boolean isInt() {
+            return h == l >> 31;
+        }
+
         /**
          * <p>
          * Returns a Long representing the given (32-bit) integer value.
@@ -1342,9 +1390,29 @@ class JSLong extends JSNumber {
          * @return {!goog.math.Long} The corresponding Long value.
          */
         private static Primitive fromBits(int lowBits, int highBits) {
+            // share the cached small value
+            if (-128 <= lowBits && lowBits < 128 && highBits == lowBits >> 31) {
+                return fromInt(lowBits);
+            }
             return new Primitive(lowBits, highBits);
         }
 
+        /**
+         * <p>
+         * Returns a long representing the given integer value, provided that it is an exact number
+         * (between -2^53 and 2^53).
+         * </p>
+         * 
+         * @param value The exact integer number.
+         * @return The corresponding Long value.
+         */
+        private static Primitive fromExactNumber(double value) {
+            if (-2147483648D <= value && value <= 2147483647D) {
+                return fromInt((int) value);
+            }
+            return new Primitive((int) (value % TWO_PWR_32), (int) Math.floor(value / TWO_PWR_32));
+        }
+
         /**
          * Returns a long representing the given value, provided that it is a finite number.
          * Otherwise, zero is returned.
@@ -1356,6 +1424,8 @@ class JSLong extends JSNumber {
         private static Primitive fromNumber(double value) {
             if (Global.isNaN(value) || !Global.isFinite(value)) {
                 return ZERO;
+            } else if (-MAX_SAFE <= value && value <= MAX_SAFE) {
+                return fromExactNumber(value < 0 ? Math.ceil(value) : Math.floor(value));
             } else if (value <= -TWO_PWR_63) {
                 return MIN_VALUE;
             } else if (value + 1 >= TWO_PWR_63) {
@@ -63,8 +63,20 @@ class JSString implements Comparable<String>, CharSequence {
         return n1 - n2;
     };
 
-    /** The cache for hash. */
-    private int hash = 0;
+    /** The maximum number of cached hashes. */
+    private static final int HashCacheSize = 4096;
+
+    /** The minimum length of string to cache its hash, the shorter string is hashed directly. */
+    private static final int HashCacheLength = 8;
+
+    /**
+     * The computed hashes of the recently used long strings. String primitive can't hold the
+     * cache field, so the hash is stored in the native property which is keyed by the string.
+     */
+    private static NativeObject hashes = new NativeObject();
+
+    /** The number of cached hashes. */
+    private static int hashesSize = 0;
 
     /**
      * Initializes a newly created {@code String} object so that it represents the same sequence of
@@ -345,17 +357,47 @@ class JSString implements Comparable<String>, CharSequence {
      */
     @Override
     public int hashCode() {
-        int h = hash;
+        int length = length();
 
-        if (h == 0 && 0 < length()) {
-            for (int i = 0; i < length(); i++) {
-                h = (31 * h + codePointAt(i)) >> 0; // cast to signed int forcibly
-            }
-            hash = h;
+        if (length < HashCacheLength) {
+            return hash(length);
         }
+
+        if (hashes.hasOwnProperty(that)) {
+            return hashes.getInt(that);
+        }
+
+        // discard all cached hashes when the cache is full
+        if (HashCacheSize <= hashesSize) {
+            hashes = new NativeObject();
+            hashesSize = 0;
+        }
+
+        int h = hash(length);
+        hashes.setProperty(that, h);
+        hashesSize++;
+
         return h;
     }
 
+    /**
+     * <p>
+     * Compute the hash of this string.
+     * </p>
+     * 
+     * @param length A length of this string.
+     * @return A computed hash.
+     */
+    private int hash(int length) {
+        int h = 0;
+
+        for (int i = 0; i < length; i++) {
+            h = (31 * h + that.charCodeAt(i)) >> 0; // cast to signed int forcibly
+        }
+        return h;
+    }
+
+
     /**
      * Returns the index within this string of the first occurrence of the specified character. If a
      * character with value <code>ch</code> occurs in the character sequence represented by this
@@ -13,9 +13,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PrintStream;
-import java.lang.reflect.Array;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import booton.translator.JavaAPIProvider;
 
@@ -202,9 +202,44 @@ class JSSystem {
      *                <code>null</code>.
      */
     public static void arraycopy(Object src, int srcPos, Object dest, int destPos, int length) {
-        for (int i = 0; i < length; i++) {
-            Array.set(dest, destPos + i, Array.get(src, srcPos + i));
+        NativeArray from = cast(src);
+        NativeArray to = cast(dest);
+
+        if (length < 0 || srcPos < 0 || destPos < 0 || from.length() < srcPos + length || to.length() < destPos + length) {
+            throw new ArrayIndexOutOfBoundsException("Copy " + length + " items from " + srcPos + " of " + from
+                    .length() + " length array to " + destPos + " of " + to.length() + " length array.");
+        }
+
+        if (from.isTyped() && to.isTyped()) {
+            // typed array copies the overlapped range correctly
+            to.set(from.subarray(srcPos, srcPos + length), destPos);
+        } else if (src == dest && srcPos < destPos) {
+            // copy backward not to overwrite the overlapped range
+            for (int i = length - 1; 0 <= i; i--) {
+                to.set(destPos + i, from.get(srcPos + i));
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                to.set(destPos + i, from.get(srcPos + i));
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Cast to {@link NativeArray}.
+     * </p>
+     * 
+     * @param array A target array.
+     * @return A casted array.
+     */
+    private static NativeArray cast(Object array) {
+        Objects.requireNonNull(array);
+
+        if (!array.getClass().isArray()) {
+            throw new ArrayStoreException(array.getClass().getName() + " is not array.");
         }
+        return (NativeArray) array;
     }
 
     /**
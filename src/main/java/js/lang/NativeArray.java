@@ -587,6 +587,66 @@ public class NativeArray<T> extends NativeObject {
         return new NativeArray(list.subList(begin, end));
     }
 
+    /**
+     * <p>
+     * Returns a new view on the same buffer of a portion of the typed array. Java emulation
+     * returns the copy.
+     * </p>
+     * 
+     * @param begin Zero-based index at which to begin extraction.
+     * @param end Zero-based index at which to end extraction.
+     * @return A view of the specified range.
+     */
+    public NativeArray<T> subarray(int begin, int end) {
+        return slice(begin, end);
+    }
+
+    /**
+     * <p>
+     * Stores multiple values in the typed array, reading input values from the specified array.
+     * The overlapped range is copied correctly.
+     * </p>
+     * 
+     * @param values The array from which to copy values.
+     * @param offset The offset into the target array at which to begin writing values.
+     */
+    public void set(NativeArray<T> values, int offset) {
+        Object[] items = values.toArray();
+
+        for (int i = 0; i < items.length; i++) {
+            set(offset + i, (T) items[i]);
+        }
+    }
+
+    /**
+     * <p>
+     * Test whether this array is typed array or not.
+     * </p>
+     * 
+     * @return A result.
+     */
+    public boolean isTyped() {
+        return false;
+    }
+
+    /**
+     * <p>
+     * Create the typed array.
+     * </p>
+     * 
+     * @param name A class name of typed array. (e.g. Int32Array)
+     * @param length A length of new array.
+     * @return A created array.
+     */
+    public static <T> NativeArray<T> typed(String name, int length) {
+        NativeArray array = new NativeArray();
+
+        for (int i = 0; i < length; i++) {
+            array.set(i, 0);
+        }
+        return array;
+    }
+
     /**
      * <p>
      * Create new {@link NativeArray} with copied elements.
@@ -662,6 +722,19 @@ public class NativeArray<T> extends NativeObject {
         return this;
     }
 
+    /**
+     * <p>
+     * Sorts the numeric elements of an array in ascending numerical order and returns the array.
+     * </p>
+     * 
+     * @return Chainable API.
+     */
+    public NativeArray<T> sortNumerically() {
+        ((List<Comparable>) list).sort(Comparator.<Comparable> naturalOrder());
+
+        return this;
+    }
+
     /**
      * <p>
      * Clear all contents of an array.
@@ -1166,6 +1239,56 @@ public class NativeArray<T> extends NativeObject {
             return that + ".slice(" + param(0) + "," + param(1) + ")";
         }
 
+        /**
+         * <p>
+         * Returns a new view on the same buffer of a portion of the typed array.
+         * </p>
+         * 
+         * @param begin Zero-based index at which to begin extraction.
+         * @param end Zero-based index at which to end extraction.
+         * @return A view of the specified range.
+         */
+        public String subarray(int begin, int end) {
+            return that + ".subarray(" + param(0) + "," + param(1) + ")";
+        }
+
+        /**
+         * <p>
+         * Stores multiple values in the typed array, reading input values from the specified
+         * array.
+         * </p>
+         * 
+         * @param values The array from which to copy values.
+         * @param offset The offset into the target array at which to begin writing values.
+         */
+        public String set(NativeArray values, int offset) {
+            return that + ".set(" + param(0) + "," + param(1) + ")";
+        }
+
+        /**
+         * <p>
+         * Test whether this array is typed array or not.
+         * </p>
+         * 
+         * @return A result.
+         */
+        public String isTyped() {
+            return "(" + that + ".subarray!==undefined)";
+        }
+
+        /**
+         * <p>
+         * Create the typed array.
+         * </p>
+         * 
+         * @param name A class name of typed array. (e.g. Int32Array)
+         * @param length A length of new array.
+         * @return A created array.
+         */
+        public String typed(String name, int length) {
+            return "boot.typed(" + param(0) + "," + param(1) + ")";
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1243,6 +1366,18 @@ public class NativeArray<T> extends NativeObject {
             return that + ".sort(" + param(0) + ")";
         }
 
+        /**
+         * <p>
+         * Sorts the numeric elements of an array in ascending numerical order and returns the
+         * array. The generic sort of Array is used because some typed arrays have no sort method.
+         * </p>
+         * 
+         * @return Chainable API.
+         */
+        public String sortNumerically() {
+            return "Array.prototype.sort.call(" + that + ",boot.numeric)";
+        }
+
         /**
          * <p>
          * Removes the first element from an array and returns that element. This method changes the
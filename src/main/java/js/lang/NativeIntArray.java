@@ -452,7 +452,7 @@ public class NativeIntArray {
          * @return
          */
         public String NativeIntArray() {
-            return "boot.array(\"" + Javascript.computeSimpleClassName(int.class) + "\",0,0)";
+            return "Φ(\"" + Javascript.computeSimpleClassName(int.class) + "\",[])";
         }
 
         /**
@@ -461,7 +461,7 @@ public class NativeIntArray {
          * </p>
          */
         public String NativeIntArray(int initialSize) {
-            return "boot.array(\"" + Javascript.computeSimpleClassName(int.class) + "\"," + param(0) + ",0)";
+            return "Φ(\"" + Javascript.computeSimpleClassName(int.class) + "\"," + param(0) + ",0)";
         }
 
         /**
@@ -472,7 +472,8 @@ public class NativeIntArray {
          * @return
          */
         public String NativeIntArray(int[] initial) {
-            return param(0);
+            // int array is backed by typed array which can't grow, so copy it into the plain array
+            return "Φ(\"" + Javascript.computeSimpleClassName(int.class) + "\",Array.prototype.slice.call(" + param(0) + "))";
         }
 
         /**
@@ -692,7 +693,7 @@ public class NativeIntArray {
          * @return
          */
         public String copy() {
-            return "boot.array(" + that + ".$," + that + ".slice(0))";
+            return "Φ(\"" + Javascript.computeSimpleClassName(int.class) + "\"," + that + ".slice(0))";
         }
 
         /**
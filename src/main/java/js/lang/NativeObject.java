@@ -110,6 +110,18 @@ public class NativeObject {
         return (int) container.get(literal(key));
     }
 
+    /**
+     * <p>
+     * Retireve property by index key as the int type.
+     * </p>
+     * 
+     * @param key A property key.
+     * @return An associated value.
+     */
+    public final int getInt(int key) {
+        return (int) container.get(literal(key));
+    }
+
     /**
      * <p>
      * Retireve property by key as the long type.
@@ -254,6 +266,21 @@ public class NativeObject {
         return value;
     }
 
+    /**
+     * <p>
+     * Set property value by index key.
+     * </p>
+     * 
+     * @param key A property key.
+     * @param value A value to set.
+     * @return A newly associated value.
+     */
+    public final int setInt(int key, int value) {
+        container.put(literal(key), value);
+
+        return value;
+    }
+
     /**
      * <p>
      * Set property value by key.
@@ -680,6 +707,18 @@ public class NativeObject {
             return that + accessor(0);
         }
 
+        /**
+         * <p>
+         * Retireve property by index key as the int type.
+         * </p>
+         * 
+         * @param key A property key.
+         * @return An associated value.
+         */
+        public String getInt(int key) {
+            return getInt((java.lang.Integer) key);
+        }
+
         /**
          * <p>
          * Retireve property by key as the long type.
@@ -816,6 +855,19 @@ public class NativeObject {
             return that + accessor(0) + "=" + param(1);
         }
 
+        /**
+         * <p>
+         * Set property value by index key.
+         * </p>
+         * 
+         * @param key A property key.
+         * @param value A value to set.
+         * @return A newly associated value.
+         */
+        public String setInt(int key, int value) {
+            return setInt((java.lang.Integer) key, value);
+        }
+
         /**
          * <p>
          * Set property value by key.
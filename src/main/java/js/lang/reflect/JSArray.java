@@ -41,6 +41,20 @@ class JSArray {
      * @exception NegativeArraySizeException if the specified {@code length} is negative
      */
     public static Object newInstance(Class<?> componentType, int length) throws NegativeArraySizeException {
+        if (length < 0) {
+            throw new NegativeArraySizeException(String.valueOf(length));
+        }
+
+        String typed = computeTypedArray(componentType);
+
+        if (typed != null) {
+            // typed array is filled by zero already
+            NativeArray array = NativeArray.typed(typed, length);
+            array.setProperty("$", ((JSClass) (Object) componentType).getArrayClass().getName());
+
+            return array;
+        }
+
         NativeArray array = new NativeArray();
         array.setProperty("$", ((JSClass) (Object) componentType).getArrayClass().getName());
 
@@ -432,6 +446,29 @@ class JSArray {
         cast(array, index).set(index, value);
     }
 
+    /**
+     * <p>
+     * Compute the typed array class name which backs the array of the specified component type.
+     * The compiler uses the same mapping for array creation.
+     * </p>
+     * 
+     * @param componentType A component type.
+     * @return A class name of typed array or <code>null</code>.
+     */
+    private static String computeTypedArray(Class componentType) {
+        if (componentType == int.class) {
+            return "Int32Array";
+        } else if (componentType == short.class) {
+            return "Int16Array";
+        } else if (componentType == byte.class) {
+            return "Int8Array";
+        } else if (componentType == float.class || componentType == double.class) {
+            return "Float64Array";
+        } else {
+            return null;
+        }
+    }
+
     /**
      * <p>
      * Cast to {@link NativeArray}.
@@ -2518,6 +2518,13 @@ class Arrays {
      */
     private static void sortPrimitive(double[] array, int from, int end) {
         NativeArray original = (NativeArray) (Object) array;
+
+        if (original.isTyped()) {
+            // sort the view of the range in place
+            original.subarray(from, end).sortNumerically();
+            return;
+        }
+
         int length = original.length();
 
         NativeArray before = null;
@@ -15,16 +15,32 @@ import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import booton.translator.JavaAPIProvider;
+import js.lang.NativeObject;
 
 /**
- * @version 2013/08/09 1:06:35
+ * <p>
+ * The hash table with Java semantics. The entries are chained in the bucket which is keyed by
+ * {@link Object#hashCode()}, so the distinct keys which have the same hash are identified by
+ * {@link Object#equals(Object)}. The string key is stored in the native property directly, it
+ * requires neither hash computation nor equality check.
+ * </p>
+ * <p>
+ * All entries are linked in insertion order, so the iteration doesn't allocate any key array and
+ * {@link java.util.LinkedHashMap} and {@link java.util.LinkedHashSet} keep their order.
+ * </p>
+ *
+ * @version 2026/10/17 16:20:45
  */
 @JavaAPIProvider(java.util.HashMap.class)
 public class HashMap<K, V> extends AbstractMap<K, V> {
 
+    /** The property prefix of string key to avoid the collision with the built-in properties. */
+    private static final String Prefix = "$";
+
     /**
      * The number of times this HashMap has been structurally modified Structural modifications are
      * those that change the number of mappings in the HashMap or otherwise modify its internal
@@ -38,8 +54,20 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     transient Set<Map.Entry<K, V>> entrySet;
 
-    /** The item pool. */
-    private final HashSet<Entry<K, V>> items = new HashSet();
+    /** The string keyed entries. */
+    private NativeObject strings = new NativeObject();
+
+    /** The hash buckets, each bucket holds the chain of entries. */
+    private NativeObject buckets = new NativeObject();
+
+    /** The first entry in insertion order. */
+    private Node<K, V> head;
+
+    /** The last entry in insertion order. */
+    private Node<K, V> tail;
+
+    /** The entry count. */
+    private int size;
 
     /**
      * <p>
@@ -51,7 +79,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
 
     /**
      * Constructs an empty <tt>HashMap</tt> with the specified initial capacity and load factor.
-     * 
+     *
      * @param initialCapacity the initial capacity
      * @param loadFactor the load factor
      * @throws IllegalArgumentException if the initial capacity is negative or the load factor is
@@ -63,7 +91,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
     /**
      * Constructs an empty <tt>HashMap</tt> with the specified initial capacity and the default load
      * factor (0.75).
-     * 
+     *
      * @param initialCapacity the initial capacity.
      * @throws IllegalArgumentException if the initial capacity is negative.
      */
@@ -74,7 +102,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      * <p>
      * Constructs a new HashMap with the same mappings as the specified Map. the specified Map.
      * </p>
-     * 
+     *
      * @param map A map whose mappings are to be placed in this map.
      */
     public HashMap(Map<? extends K, ? extends V> map) {
@@ -88,7 +116,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public int size() {
-        return items.size();
+        return size;
     }
 
     /**
@@ -96,7 +124,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public boolean isEmpty() {
-        return items.isEmpty();
+        return size == 0;
     }
 
     /**
@@ -104,7 +132,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public boolean containsKey(Object key) {
-        return items.contains(key);
+        return find(key) != null;
     }
 
     /**
@@ -112,8 +140,8 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public boolean containsValue(Object value) {
-        for (V item : values()) {
-            if (item == value) {
+        for (Node<K, V> node = head; node != null; node = node.after) {
+            if (equals(value, node.value)) {
                 return true;
             }
         }
@@ -125,9 +153,9 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public V get(Object key) {
-        Entry<K, V> entry = items.find(key);
+        Node<K, V> node = find(key);
 
-        return entry == null ? null : entry.getValue();
+        return node == null ? null : node.value;
     }
 
     /**
@@ -135,12 +163,14 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public V put(K key, V value) {
-        Entry<K, V> previous = items.push(new SimpleEntry(key, value));
+        Node<K, V> node = find(key);
+
+        if (node == null) {
+            add(key, value);
 
-        if (previous == null) {
             return null;
         } else {
-            return previous.getValue();
+            return node.setValue(value);
         }
     }
 
@@ -149,12 +179,14 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public V remove(Object key) {
-        Entry<K, V> removed = items.pull(key);
+        Node<K, V> node = find(key);
 
-        if (removed == null) {
+        if (node == null) {
             return null;
         } else {
-            return removed.getValue();
+            unlink(node);
+
+            return node.value;
         }
     }
 
@@ -163,7 +195,12 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public void clear() {
-        items.clear();
+        strings = new NativeObject();
+        buckets = new NativeObject();
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
     }
 
     /**
@@ -187,15 +224,123 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      */
     @Override
     public Set<Entry<K, V>> entrySet() {
-        return items;
+        if (entrySet == null) {
+            entrySet = new Entries();
+        }
+        return entrySet;
     }
 
     /**
-     * 
+     *
      */
     void reinitialize() {
     }
 
+    /**
+     * <p>
+     * Find the entry of the specified key.
+     * </p>
+     *
+     * @param key A key to search.
+     * @return A found entry or <code>null</code>.
+     */
+    Node<K, V> find(Object key) {
+        if (key instanceof String) {
+            // the prefixed name may collide with the member of Object.prototype (e.g. "$0")
+            String name = Prefix + key;
+
+            return strings.hasOwnProperty(name) ? (Node<K, V>) strings.getProperty(name) : null;
+        }
+
+        Node<K, V> node = (Node<K, V>) buckets.getProperty(hash(key));
+
+        while (node != null && !equals(key, node.key)) {
+            node = node.next;
+        }
+        return node;
+    }
+
+    /**
+     * <p>
+     * Add the new entry. The caller must check that the key doesn't exist.
+     * </p>
+     *
+     * @param key A new key.
+     * @param value A value.
+     * @return An added entry.
+     */
+    Node<K, V> add(K key, V value) {
+        Node<K, V> node = new Node(key, value);
+
+        if (key instanceof String) {
+            strings.setProperty(Prefix + key, node);
+        } else {
+            int hash = hash(key);
+
+            // the new entry becomes the bucket head
+            node.next = (Node<K, V>) buckets.getProperty(hash);
+            buckets.setProperty(hash, node);
+        }
+
+        // link in insertion order
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.after = node;
+            node.before = tail;
+        }
+        tail = node;
+        size++;
+        modCount++;
+
+        return node;
+    }
+
+    /**
+     * <p>
+     * Remove the specified entry. The removed entry keeps its following link, so the iteration
+     * which is positioned on it can proceed.
+     * </p>
+     *
+     * @param node A entry to remove.
+     */
+    void unlink(Node<K, V> node) {
+        if (node.key instanceof String) {
+            strings.deleteProperty(Prefix + node.key);
+        } else {
+            int hash = hash(node.key);
+            Node<K, V> first = (Node<K, V>) buckets.getProperty(hash);
+
+            if (first == node) {
+                if (node.next == null) {
+                    buckets.deleteProperty(hash);
+                } else {
+                    buckets.setProperty(hash, node.next);
+                }
+            } else {
+                while (first.next != node) {
+                    first = first.next;
+                }
+                first.next = node.next;
+            }
+        }
+
+        // unlink from insertion order
+        if (node.before == null) {
+            head = node.after;
+        } else {
+            node.before.after = node.after;
+        }
+
+        if (node.after == null) {
+            tail = node.before;
+        } else {
+            node.after.before = node.before;
+        }
+        size--;
+        modCount++;
+    }
+
     /**
      * Computes key.hashCode() and spreads (XORs) higher bits of hash to lower. Because the table
      * uses power-of-two masking, sets of hashes that vary only in bits above the current mask will
@@ -209,25 +354,47 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
      * calculations because of table bounds.
      */
     static final int hash(Object key) {
-        return key == null ? -1 : key.hashCode();
+        return key == null ? 0 : key.hashCode();
     }
 
     /**
-     * @version 2012/12/09 21:55:48
+     * <p>
+     * Helper method to check equality.
+     * </p>
+     *
+     * @param one A value.
+     * @param other A value.
+     * @return A result.
      */
-    private static class SimpleEntry<K, V> implements Entry<K, V> {
+    static final boolean equals(Object one, Object other) {
+        return one == other || (one != null && one.equals(other));
+    }
+
+    /**
+     * @version 2026/10/17 16:20:45
+     */
+    static class Node<K, V> implements Entry<K, V> {
 
         /** The key. */
-        private K key;
+        final K key;
 
         /** The value. */
-        private V value;
+        V value;
+
+        /** The next entry in the same bucket. */
+        Node<K, V> next;
+
+        /** The previous entry in insertion order. */
+        Node<K, V> before;
+
+        /** The next entry in insertion order. */
+        Node<K, V> after;
 
         /**
          * @param key
          * @param value
          */
-        private SimpleEntry(K key, V value) {
+        private Node(K key, V value) {
             this.key = key;
             this.value = value;
         }
@@ -268,7 +435,94 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public int hashCode() {
-            return key.hashCode();
+            return hash(key) ^ hash(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object object) {
+            if (object instanceof Entry == false) {
+                return false;
+            }
+
+            Entry entry = (Entry) object;
+
+            return HashMap.equals(key, entry.getKey()) && HashMap.equals(value, entry.getValue());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * @version 2026/10/17 16:20:45
+     */
+    private class Entries extends AbstractSet<Entry<K, V>> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object item) {
+            if (item instanceof Entry == false) {
+                return false;
+            }
+
+            Entry entry = (Entry) item;
+            Node<K, V> node = find(entry.getKey());
+
+            return node != null && HashMap.equals(node.value, entry.getValue());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new View(View.ForEntry);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean add(Entry<K, V> e) {
+            return false; // Don't support add operation.
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object item) {
+            if (contains(item)) {
+                HashMap.this.remove(((Entry) item).getKey());
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear() {
+            HashMap.this.clear();
         }
     }
 
@@ -282,7 +536,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public int size() {
-            return items.size();
+            return size;
         }
 
         /**
@@ -290,7 +544,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public boolean contains(Object item) {
-            return items.contains(item);
+            return containsKey(item);
         }
 
         /**
@@ -298,7 +552,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public Iterator<K> iterator() {
-            return new View(items.iterator(), true);
+            return new View(View.ForKey);
         }
 
         /**
@@ -314,7 +568,14 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public boolean remove(Object item) {
-            return items.remove(item);
+            Node<K, V> node = find(item);
+
+            if (node == null) {
+                return false;
+            } else {
+                unlink(node);
+                return true;
+            }
         }
 
         /**
@@ -322,7 +583,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public void clear() {
-            items.clear();
+            HashMap.this.clear();
         }
     }
 
@@ -336,7 +597,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public int size() {
-            return items.size();
+            return size;
         }
 
         /**
@@ -352,7 +613,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public Iterator<V> iterator() {
-            return new View(items.iterator(), false);
+            return new View(View.ForValue);
         }
 
         /**
@@ -368,14 +629,9 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public boolean remove(Object item) {
-            Iterator<V> iterator = iterator();
-
-            while (iterator.hasNext()) {
-                V value = iterator.next();
-
-                if (value == item) {
-                    iterator.remove();
-
+            for (Node<K, V> node = head; node != null; node = node.after) {
+                if (HashMap.equals(item, node.value)) {
+                    unlink(node);
                     return true;
                 }
             }
@@ -387,27 +643,43 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public void clear() {
-            items.clear();
+            HashMap.this.clear();
         }
     }
 
     /**
-     * @version 2012/12/09 20:55:48
+     * <p>
+     * The iterator which follows the insertion order link. The entries can be added or removed
+     * while iterating.
+     * </p>
+     *
+     * @version 2026/10/17 16:20:45
      */
     private class View implements Iterator {
 
-        /** The actual view. */
-        private final Iterator<Entry<K, V>> iterator;
+        /** The key view. */
+        private static final int ForKey = 0;
+
+        /** The value view. */
+        private static final int ForValue = 1;
+
+        /** The entry view. */
+        private static final int ForEntry = 2;
 
         /** The view mode. */
-        private final boolean useKey;
+        private final int mode;
+
+        /** The next entry. */
+        private Node<K, V> next = head;
+
+        /** The current entry. */
+        private Node<K, V> current;
 
         /**
-         * @param iterator
+         * @param mode A view mode.
          */
-        private View(Iterator<Entry<K, V>> iterator, boolean useKey) {
-            this.iterator = iterator;
-            this.useKey = useKey;
+        private View(int mode) {
+            this.mode = mode;
         }
 
         /**
@@ -415,7 +687,7 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public boolean hasNext() {
-            return iterator.hasNext();
+            return next != null;
         }
 
         /**
@@ -423,12 +695,22 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public Object next() {
-            Entry entry = iterator.next();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
 
-            if (useKey) {
-                return entry.getKey();
-            } else {
-                return entry.getValue();
+            current = next;
+            next = next.after;
+
+            switch (mode) {
+            case ForKey:
+                return current.key;
+
+            case ForValue:
+                return current.value;
+
+            default:
+                return current;
             }
         }
 
@@ -437,7 +719,12 @@ public class HashMap<K, V> extends AbstractMap<K, V> {
          */
         @Override
         public void remove() {
-            iterator.remove();
+            if (current == null) {
+                throw new IllegalStateException();
+            }
+
+            unlink(current);
+            current = null;
         }
     }
 }
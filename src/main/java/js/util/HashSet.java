@@ -14,19 +14,21 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import booton.translator.JavaAPIProvider;
-import js.lang.NativeObject;
+import js.util.HashMap.Node;
 
 /**
- * @version 2013/05/30 20:38:55
+ * <p>
+ * The hash set with Java semantics which is backed by {@link HashMap}, so the distinct items
+ * which have the same hash are kept and the iteration follows insertion order.
+ * </p>
+ * 
+ * @version 2026/10/17 16:20:45
  */
 @JavaAPIProvider(java.util.HashSet.class)
 class HashSet<E> extends AbstractSet<E> {
 
-    /** The item count. */
-    private int size = 0;
-
-    /** The item pool. */
-    private NativeObject items = new NativeObject();
+    /** The item pool, the item is stored as key. */
+    private final HashMap<E, E> items = new HashMap();
 
     /**
      * Constructs a new, empty set; the backing <tt>HashMap</tt> instance has default initial
@@ -92,7 +94,7 @@ class HashSet<E> extends AbstractSet<E> {
      */
     @Override
     public int size() {
-        return size;
+        return items.size();
     }
 
     /**
@@ -100,7 +102,7 @@ class HashSet<E> extends AbstractSet<E> {
      */
     @Override
     public boolean contains(Object item) {
-        return items.hasProperty(hash(item));
+        return items.find(item) != null;
     }
 
     /**
@@ -108,13 +110,10 @@ class HashSet<E> extends AbstractSet<E> {
      */
     @Override
     public boolean add(E item) {
-        int hash = hash(item);
-
-        if (items.hasProperty(hash)) {
+        if (items.find(item) != null) {
             return false;
         } else {
-            size++;
-            items.setProperty(hash, item);
+            items.add(item, item);
             return true;
         }
     }
@@ -124,13 +123,12 @@ class HashSet<E> extends AbstractSet<E> {
      */
     @Override
     public boolean remove(Object item) {
-        int hash = hash(item);
+        Node<E, E> node = items.find(item);
 
-        if (!items.hasProperty(hash)) {
+        if (node == null) {
             return false;
         } else {
-            size--;
-            items.deleteProperty(hash);
+            items.unlink(node);
             return true;
         }
     }
@@ -140,8 +138,7 @@ class HashSet<E> extends AbstractSet<E> {
      */
     @Override
     public void clear() {
-        size = 0;
-        items = new NativeObject();
+        items.clear();
     }
 
     /**
@@ -149,7 +146,7 @@ class HashSet<E> extends AbstractSet<E> {
      */
     @Override
     public Iterator<E> iterator() {
-        return new View(items.keys());
+        return items.keySet().iterator();
     }
 
     /**
@@ -164,126 +161,4 @@ class HashSet<E> extends AbstractSet<E> {
         // wrapped error in here.
         throw new Error();
     }
-
-    /**
-     * <p>
-     * Compute hash.
-     * </p>
-     * 
-     * @param key
-     * @return
-     */
-    int hash(Object key) {
-        return key == null ? -1 : key.hashCode();
-    }
-
-    /**
-     * <p>
-     * Find the item which is equals to the specified item.
-     * </p>
-     * 
-     * @param item A item to find.
-     * @return A found item in this set.
-     */
-    E find(Object item) {
-        return (E) items.getProperty(hash(item));
-    }
-
-    /**
-     * <p>
-     * Add the item overwritely and return the previous item.
-     * </p>
-     * 
-     * @param item A item to add.
-     * @return A previous item or null.
-     */
-    E push(Object item) {
-        E previous = null;
-        int hash = hash(item);
-
-        if (items.hasProperty(hash)) {
-            previous = (E) items.getProperty(hash);
-        } else {
-            size++;
-        }
-
-        // assign property
-        items.setProperty(hash, item);
-
-        // API definition
-        return previous;
-    }
-
-    /**
-     * <p>
-     * Remove the item and return it.
-     * </p>
-     * 
-     * @param item A item to remove.
-     * @return A removed item or null.
-     */
-    E pull(Object item) {
-        E previous = null;
-        int hash = hash(item);
-
-        if (items.hasProperty(hash)) {
-            previous = (E) items.getProperty(hash);
-
-            size--;
-            items.deleteProperty(hash);
-        }
-
-        // API definition
-        return previous;
-    }
-
-    /**
-     * @version 2012/12/09 19:25:43
-     */
-    class View implements Iterator<E> {
-
-        /** The actual view. */
-        private final String[] keys;
-
-        /** The curren position. */
-        private int index = 0;
-
-        /** The current selected item. */
-        private E current;
-
-        /**
-         * @param keys
-         */
-        private View(String[] keys) {
-            this.keys = keys;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public boolean hasNext() {
-            return index < keys.length;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public E next() {
-            current = (E) items.getProperty(keys[index++]);
-
-            return current;
-        }
-
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void remove() {
-            if (0 < index) {
-                HashSet.this.remove(current);
-            }
-        }
-    }
 }
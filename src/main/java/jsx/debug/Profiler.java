@@ -29,8 +29,8 @@ class Profiler<K, E, Y> {
     /** The profiling manager. */
     private static final ConcurrentHashMap<String, Result> results = new ConcurrentHashMap();
 
-    /** The latest profiling. */
-    private static Result latest = new Result(null, null, null, null);
+    /** The latest profiling for each thread. */
+    private static final ThreadLocal<Result> latest = ThreadLocal.withInitial(() -> new Result(null, null, null, null));
 
     /**
      * <p>
@@ -41,13 +41,19 @@ class Profiler<K, E, Y> {
      */
     static final <K, E, Y> void start(Profile profile, K key1, E key2, Y key3) {
         if (execute) {
-            latest.stop();
-
-            String key = String.valueOf(profile).concat(String.valueOf(key1)).concat(String.valueOf(key2)).concat(String.valueOf(key3));
+            Result previous = latest.get();
+            previous.stop();
+
+            // The profiling chain is recorded per thread, so the result must be separated by thread.
+            String key = String.valueOf(profile)
+                    .concat(String.valueOf(key1))
+                    .concat(String.valueOf(key2))
+                    .concat(String.valueOf(key3))
+                    .concat(String.valueOf(Thread.currentThread().getId()));
             Result now = results.computeIfAbsent(key, name -> new Result(profile, key1, key2, key3));
-            now.previous = latest;
+            now.previous = previous;
             now.count++;
-            latest = now;
+            latest.set(now);
             now.start();
         }
     }
@@ -59,9 +65,11 @@ class Profiler<K, E, Y> {
      */
     static final void stop() {
         if (execute) {
-            latest.stop();
-            latest = latest.previous;
-            latest.start();
+            Result current = latest.get();
+            current.stop();
+            current = current.previous;
+            current.start();
+            latest.set(current);
         }
     }
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package jsx.style;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * The registry of the statically declared {@link Style}. The rules of these styles are extracted
+ * into the style sheet file at build time, so the runtime doesn't create {@link StyleRule} for
+ * them and uses the assigned class name only.
+ * </p>
+ *
+ * @version 2026/10/17 21:10:48
+ */
+public class StaticStyle {
+
+    /** The class name of each statically declared style. */
+    private static final Map<Style, String> names = new HashMap();
+
+    /** The flag whether the extraction is processing now. */
+    private static boolean extracting;
+
+    /** The flag whether the extracting style refers the dynamic style. */
+    private static boolean dynamic;
+
+    /**
+     * <p>
+     * Register the statically declared style with the assigned class name.
+     * </p>
+     *
+     * @param style A target style.
+     * @param name A class name.
+     */
+    public static synchronized void register(Style style, String name) {
+        names.put(style, name);
+    }
+
+    /**
+     * <p>
+     * Unregister the specified style.
+     * </p>
+     *
+     * @param style A target style.
+     */
+    public static synchronized void unregister(Style style) {
+        names.remove(style);
+    }
+
+    /**
+     * <p>
+     * Check whether the specified style is declared statically or not.
+     * </p>
+     *
+     * @param style A target style.
+     * @return A result.
+     */
+    public static synchronized boolean contains(Style style) {
+        return names.containsKey(style);
+    }
+
+    /**
+     * <p>
+     * Find the assigned class name of the specified style.
+     * </p>
+     *
+     * @param style A target style.
+     * @return A class name or <code>null</code> if the style is not declared statically.
+     */
+    static synchronized String name(Style style) {
+        String name = names.get(style);
+
+        if (name == null && extracting) {
+            dynamic = true;
+        }
+        return name;
+    }
+
+    /**
+     * <p>
+     * Evaluate the rules of the registered style. The style which refers any dynamic style can't
+     * be extracted because its class name is not fixed until runtime.
+     * </p>
+     *
+     * @param style A registered style.
+     * @return A style sheet text or <code>null</code> if the style refers any dynamic style.
+     */
+    public static synchronized String extract(Style style) {
+        extracting = true;
+        dynamic = false;
+
+        try {
+            StringBuilder builder = new StringBuilder();
+            write(StyleRule.create("$", style, true), builder);
+
+            return dynamic ? null : builder.toString();
+        } finally {
+            extracting = false;
+        }
+    }
+
+    /**
+     * <p>
+     * Write the specified rule and its sub rules.
+     * </p>
+     *
+     * @param rule A target rule.
+     * @param builder A style sheet text.
+     */
+    private static void write(StyleRule rule, StringBuilder builder) {
+        builder.append(rule);
+
+        for (int i = 0; i < rule.children.length(); i++) {
+            write(rule.children.get(i), builder);
+        }
+    }
+}
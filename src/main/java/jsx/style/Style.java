@@ -30,6 +30,16 @@ public interface Style extends Declarable, Location<UIEvent> {
      */
     void style();
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default String name() {
+        String name = StaticStyle.name(this);
+
+        return name != null ? name : "AT" + hashCode();
+    }
+
     /**
      * {@inheritDoc}
      */
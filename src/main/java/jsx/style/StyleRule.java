@@ -204,8 +204,12 @@ public class StyleRule {
 
         // swap context rule and execute it
         PropertyDefinition.properties = child;
-        style.style();
-        PropertyDefinition.properties = parent;
+
+        try {
+            style.style();
+        } finally {
+            PropertyDefinition.properties = parent;
+        }
 
         if (parent != null) {
             parent.children.push(child);
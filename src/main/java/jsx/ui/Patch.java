@@ -102,8 +102,8 @@ abstract class Patch {
      */
     static class InsertChild extends ChildPatch {
 
-        /** The index to insert. */
-        private final Node index;
+        /** The index to insert. Its real DOM is resolved on applying. */
+        private final VirtualNode index;
 
         /**
          * <p>
@@ -114,7 +114,7 @@ abstract class Patch {
          * @param index
          * @param child
          */
-        InsertChild(Element parent, Node index, VirtualNode child) {
+        InsertChild(Element parent, VirtualNode index, VirtualNode child) {
             super(parent, child);
             this.index = index;
         }
@@ -129,7 +129,7 @@ abstract class Patch {
             if (this.index == null) {
                 parent.append(created);
             } else {
-                parent.insertBefore(created, index);
+                parent.insertBefore(created, index.dom);
             }
         }
     }
@@ -139,8 +139,8 @@ abstract class Patch {
      */
     static class MoveChild extends ChildPatch {
 
-        /** The child node to move. */
-        private final Node child;
+        /** The index to move. Its real DOM is resolved on applying. */
+        private final VirtualNode index;
 
         /**
          * <p>
@@ -148,12 +148,13 @@ abstract class Patch {
          * </p>
          * 
          * @param parent
+         * @param index
          * @param child
          */
-        MoveChild(Element parent, Node child) {
-            super(parent, null);
+        MoveChild(Element parent, VirtualNode index, VirtualNode child) {
+            super(parent, child);
 
-            this.child = child;
+            this.index = index;
         }
 
         /**
@@ -161,7 +162,11 @@ abstract class Patch {
          */
         @Override
         public void apply() {
-            parent.append(child);
+            if (index == null) {
+                parent.append(child.dom);
+            } else {
+                parent.insertBefore(child.dom, index.dom);
+            }
         }
     }
 
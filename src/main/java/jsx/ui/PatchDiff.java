@@ -14,6 +14,7 @@ import java.util.List;
 
 import js.dom.Element;
 import js.lang.NativeArray;
+import js.lang.NativeObject;
 import jsx.collection.DualList;
 import jsx.style.Style;
 import jsx.ui.Patch.AddAttribute;
@@ -34,23 +35,6 @@ import jsx.ui.Patch.SetInlineStyle;
  */
 class PatchDiff {
 
-    /**
-     * <p>
-     * Helper method to diff elements and apply patches.
-     * </p>
-     * 
-     * @param prev A previouse state.
-     * @param next A next state.
-     */
-    static void apply(VirtualElement prev, VirtualElement next) {
-        List<Patch> diff = diff(prev, next);
-
-        for (int i = 0; i < diff.size(); i++) {
-            diff.get(i).apply();
-        }
-        prev.dispose();
-    }
-
     /**
      * <p>
      * Diff elements.
@@ -71,6 +55,10 @@ class PatchDiff {
          */
         next.dom = prev.dom;
 
+        if (next.viewport != null) {
+            next.viewport.observe(next.dom);
+        }
+
         List<Patch> patches = new ArrayList();
         patches.addAll(diff(next.dom, prev.attributes, next.attributes));
         patches.addAll(diff(next.dom, prev.classList, next.classList));
@@ -193,6 +181,11 @@ class PatchDiff {
      * <p>
      * Diff child nodes.
      * </p>
+     * <p>
+     * The common head and tail items are patched in place. The remaining items are reconciled by
+     * their identifiers in linear time, and the items on the longest increasing subsequence of the
+     * previous positions keep their places, so only the other items are moved.
+     * </p>
      * 
      * @param context
      * @param prev A previouse state.
@@ -201,116 +194,224 @@ class PatchDiff {
      */
     static List<Patch> diff(Element context, VirtualElement prev, VirtualElement next) {
         List<Patch> patches = new ArrayList();
+        NativeArray<VirtualNode> prevItems = prev.items;
+        NativeArray<VirtualNode> nextItems = next.items;
 
-        int prevSize = prev.items.length();
-        int nextSize = next.items.length();
-        int max = prevSize + nextSize;
-        int prevPosition = 0;
-        int nextPosition = 0;
-        int actualManipulationPosition = 0;
-
-        for (int i = 0; i < max; i++) {
-            if (prevSize <= prevPosition) {
-                if (nextSize <= nextPosition) {
-                    break; // all items were scanned
-                } else {
-                    // all prev items are scanned, but next items are remaining
-                    VirtualNode nextItem = next.items.get(nextPosition++);
-                    int index = prev.indexOf(nextItem);
-
-                    if (index == -1) {
-                        patches.add(new InsertChild(context, null, nextItem));
-                    } else {
-                        VirtualNode prevItem = prev.items.get(index);
-
-                        /**
-                         * {@link VirtualNode#dom}
-                         * <p>
-                         * We passes the Real DOM from the previous Virtual DOM to the next Virtual
-                         * DOM. To tell the truth, we don't want to manipulate Real DOM in here. But
-                         * here is the best place to pass the reference.
-                         * </p>
-                         */
-                        nextItem.dom = prevItem.dom;
-
-                        patches.add(new MoveChild(context, prevItem.dom));
-                    }
-                }
+        int start = 0;
+        int prevEnd = prevItems.length() - 1;
+        int nextEnd = nextItems.length() - 1;
+
+        // skip the common head items
+        while (start <= prevEnd && start <= nextEnd && prevItems.get(start).id == nextItems.get(start).id) {
+            same(prevItems.get(start), nextItems.get(start), patches);
+            start++;
+        }
+
+        // skip the common tail items
+        while (start <= prevEnd && start <= nextEnd && prevItems.get(prevEnd).id == nextItems.get(nextEnd).id) {
+            same(prevItems.get(prevEnd--), nextItems.get(nextEnd--), patches);
+        }
+
+        // the item which is located after the remaining items, null means the end of children
+        VirtualNode anchor = nextEnd + 1 < nextItems.length() ? nextItems.get(nextEnd + 1) : null;
+
+        if (nextEnd < start) {
+            // all next items are scanned, but prev items are remaining
+            for (int i = start; i <= prevEnd; i++) {
+                patches.add(new RemoveChild(context, prevItems.get(i)));
+            }
+            return patches;
+        }
+
+        if (prevEnd < start) {
+            // all prev items are scanned, but next items are remaining
+            for (int i = start; i <= nextEnd; i++) {
+                patches.add(new InsertChild(context, anchor, nextItems.get(i)));
+            }
+            return patches;
+        }
+
+        // map identifier to the first unmatched position in prev items, the positions of the same
+        // identifier are chained in order
+        NativeObject positions = new NativeObject();
+        int[] chain = new int[prevEnd - start + 1];
+
+        for (int i = prevEnd; start <= i; i--) {
+            int id = prevItems.get(i).id;
+
+            chain[i - start] = positions.hasProperty(id) ? positions.getInt(id) : -1;
+            positions.setInt(id, i);
+        }
+
+        // find the prev position of each next item
+        int[] sources = new int[nextEnd - start + 1];
+        boolean[] matched = new boolean[prevEnd - start + 1];
+        int matches = 0;
+
+        for (int i = start; i <= nextEnd; i++) {
+            int id = nextItems.get(i).id;
+            int position = positions.hasProperty(id) ? positions.getInt(id) : -1;
+
+            sources[i - start] = position;
+
+            if (position != -1) {
+                positions.setInt(id, chain[position - start]);
+                matched[position - start] = true;
+                matches++;
+            }
+        }
+
+        if (matches == 0) {
+            // all items are different, replace them in order
+            int i = start;
+
+            for (; i <= prevEnd && i <= nextEnd; i++) {
+                replace(context, prevItems.get(i), nextItems.get(i), patches);
+            }
+
+            for (int j = i; j <= prevEnd; j++) {
+                patches.add(new RemoveChild(context, prevItems.get(j)));
+            }
+
+            for (int j = i; j <= nextEnd; j++) {
+                patches.add(new InsertChild(context, anchor, nextItems.get(j)));
+            }
+            return patches;
+        }
+
+        // remove the unmatched prev items
+        for (int i = start; i <= prevEnd; i++) {
+            if (!matched[i - start]) {
+                patches.add(new RemoveChild(context, prevItems.get(i)));
+            }
+        }
+
+        // Place the next items from tail to head, so the anchor item is always placed before.
+        boolean[] stable = stable(sources);
+
+        for (int i = nextEnd; start <= i; i--) {
+            VirtualNode nextItem = nextItems.get(i);
+            int source = sources[i - start];
+
+            if (source == -1) {
+                patches.add(new InsertChild(context, anchor, nextItem));
             } else {
-                if (nextSize <= nextPosition) {
-                    // all next items are scanned, but prev items are remaining
-                    patches.add(new RemoveChild(context, prev.items.get(prevPosition++)));
-                } else {
-                    // prev and next items are remaining
-                    VirtualNode prevItem = prev.items.get(prevPosition);
-                    VirtualNode nextItem = next.items.get(nextPosition);
-
-                    if (prevItem.id == nextItem.id) {
-                        // same item
-
-                        if (prevItem instanceof VirtualElement) {
-                            VirtualElement prevElement = (VirtualElement) prevItem;
-                            VirtualElement nextElement = (VirtualElement) nextItem;
-
-                            patches.addAll(diff(prevElement, nextElement));
-                        } else {
-                            /**
-                             * {@link VirtualNode#dom}
-                             * <p>
-                             * We passes the Real DOM from the previous Virtual DOM to the next
-                             * Virtual DOM. To tell the truth, we don't want to manipulate Real DOM
-                             * in here. But here is the best place to pass the reference.
-                             * </p>
-                             */
-                            nextItem.dom = prevItem.dom;
-                        }
-
-                        actualManipulationPosition++;
-                        prevPosition++;
-                        nextPosition++;
+                same(prevItems.get(source), nextItem, patches);
+
+                if (!stable[i - start]) {
+                    patches.add(new MoveChild(context, anchor, nextItem));
+                }
+            }
+            anchor = nextItem;
+        }
+        return patches;
+    }
+
+    /**
+     * <p>
+     * Diff the items which have the same identifier.
+     * </p>
+     * 
+     * @param prevItem A previouse state.
+     * @param nextItem A next state.
+     * @param patches A patch list.
+     */
+    private static void same(VirtualNode prevItem, VirtualNode nextItem, List<Patch> patches) {
+        if (prevItem == nextItem) {
+            // the reused structure of the unchanged widget, skip diff of the whole subtree
+            return;
+        }
+
+        if (prevItem instanceof VirtualElement) {
+            VirtualElement prevElement = (VirtualElement) prevItem;
+            VirtualElement nextElement = (VirtualElement) nextItem;
+
+            patches.addAll(diff(prevElement, nextElement));
+        } else {
+            /**
+             * {@link VirtualNode#dom}
+             * <p>
+             * We passes the Real DOM from the previous Virtual DOM to the next Virtual DOM. To tell
+             * the truth, we don't want to manipulate Real DOM in here. But here is the best place
+             * to pass the reference.
+             * </p>
+             */
+            nextItem.dom = prevItem.dom;
+        }
+    }
+
+    /**
+     * <p>
+     * Replace the item by the different item.
+     * </p>
+     * 
+     * @param context
+     * @param prevItem A previouse state.
+     * @param nextItem A next state.
+     * @param patches A patch list.
+     */
+    private static void replace(Element context, VirtualNode prevItem, VirtualNode nextItem, List<Patch> patches) {
+        if (prevItem instanceof VirtualText && nextItem instanceof VirtualText) {
+            /**
+             * {@link VirtualNode#dom}
+             * <p>
+             * We passes the Real DOM from the previous Virtual DOM to the next Virtual DOM. To tell
+             * the truth, we don't want to manipulate Real DOM in here. But here is the best place
+             * to pass the reference.
+             * </p>
+             */
+            nextItem.dom = prevItem.dom;
+
+            patches.add(new ReplaceText(prevItem, (VirtualText) nextItem));
+        } else {
+            patches.add(new ReplaceChild(context, prevItem, nextItem));
+        }
+    }
+
+    /**
+     * <p>
+     * Compute the longest increasing subsequence of the prev positions in O(n log n).
+     * </p>
+     * 
+     * @param sources The prev positions of next items, -1 means the new item.
+     * @return The flags whether the item is on the subsequence or not.
+     */
+    static boolean[] stable(int[] sources) {
+        int length = sources.length;
+        int size = 0;
+        int[] tails = new int[length];
+        int[] previous = new int[length];
+        boolean[] stable = new boolean[length];
+
+        for (int i = 0; i < length; i++) {
+            int source = sources[i];
+
+            if (source != -1) {
+                // search the longest subsequence which can be extended by this item
+                int low = 0;
+                int high = size;
+
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+
+                    if (sources[tails[middle]] < source) {
+                        low = middle + 1;
                     } else {
-                        // different item
-                        int nextItemInPrev = prev.indexOf(nextItem);
-                        int prevItemInNext = next.indexOf(prevItem);
-
-                        if (nextItemInPrev == -1) {
-                            if (prevItemInNext == -1) {
-                                if (prevItem instanceof VirtualText && nextItem instanceof VirtualText) {
-                                    /**
-                                     * {@link VirtualNode#dom}
-                                     * <p>
-                                     * We passes the Real DOM from the previous Virtual DOM to the
-                                     * next Virtual DOM. To tell the truth, we don't want to
-                                     * manipulate Real DOM in here. But here is the best place to
-                                     * pass the reference.
-                                     * </p>
-                                     */
-                                    nextItem.dom = prevItem.dom;
-
-                                    patches.add(new ReplaceText(prevItem, (VirtualText) nextItem));
-                                } else {
-                                    patches.add(new ReplaceChild(context, prevItem, nextItem));
-                                }
-                                prevPosition++;
-                            } else {
-                                patches.add(new InsertChild(context, prevItem.dom, nextItem));
-                            }
-                            nextPosition++;
-                            actualManipulationPosition++;
-                        } else {
-                            if (prevItemInNext == -1) {
-                                patches.add(new RemoveChild(context, prevItem));
-                            } else {
-                                // both items are found in each other list
-                                // hold and skip the current value
-                                actualManipulationPosition++;
-                            }
-                            prevPosition++;
-                        }
+                        high = middle;
                     }
                 }
+                previous[i] = low == 0 ? -1 : tails[low - 1];
+                tails[low] = i;
+
+                if (low == size) {
+                    size++;
+                }
             }
         }
-        return patches;
+
+        for (int i = size == 0 ? -1 : tails[size - 1]; i != -1; i = previous[i]) {
+            stable[i] = true;
+        }
+        return stable;
     }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package jsx.ui;
+
+import static js.lang.Global.*;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import js.dom.ClientRect;
+import js.dom.Element;
+import js.lang.NativeArray;
+
+/**
+ * <p>
+ * The time-sliced scheduler of the widget rendering. The virtualization, the diff and the patch
+ * application of each dirty widget are split into units on the animation frame, and the scheduler
+ * yields to the browser when the time budget of the current frame is exhausted. The remaining
+ * units are continued on the next animation frame.
+ * </p>
+ * <p>
+ * The widget updated by user input is rendered first, then the widget in the viewport. The
+ * repeated updates of the same widget are coalesced into one rendering.
+ * </p>
+ *
+ * @version 2026/10/17 20:05:12
+ */
+public final class Scheduler {
+
+    /** The number of patches which are applied between the budget checks. */
+    private static final int Batch = 16;
+
+    /** The widgets which are updated by user input. */
+    private static final NativeArray<Widget> inputs = new NativeArray();
+
+    /** The other widgets. */
+    private static final NativeArray<Widget> others = new NativeArray();
+
+    /** The time budget of one frame (ms). */
+    private static double budget = 8;
+
+    /** The flag whether the user input is dispatching now. */
+    static boolean input;
+
+    /** The flag whether the animation frame is requested. */
+    private static boolean requested;
+
+    /** The widget which is rendering now. */
+    private static Widget current;
+
+    /** The next virtual structure of the rendering widget. */
+    private static VirtualElement next;
+
+    /** The patches of the rendering widget. */
+    private static List<Patch> patches;
+
+    /** The index of the next patch to apply. */
+    private static int index;
+
+    /** The requester of the animation frame, it is replaceable to drive the frames manually. */
+    static Consumer<Runnable> frame = task -> requestAnimationFrame(task);
+
+    /** The viewport checker, it is replaceable to use without layout. */
+    static Predicate<Widget> visible = Scheduler::isVisible;
+
+    /**
+     * <p>
+     * Hide constructor.
+     * </p>
+     */
+    private Scheduler() {
+    }
+
+    /**
+     * <p>
+     * Configure the time budget of one frame.
+     * </p>
+     *
+     * @param milliseconds A time budget (ms).
+     */
+    public static void budget(double milliseconds) {
+        budget = milliseconds;
+    }
+
+    /**
+     * <p>
+     * Schedule the rendering of the specified widget.
+     * </p>
+     *
+     * @param widget A target widget.
+     */
+    static void schedule(Widget widget) {
+        if (!widget.scheduled) {
+            widget.scheduled = true;
+            (input ? inputs : others).push(widget);
+        } else if (input) {
+            // promote the scheduled widget by user input
+            int position = others.indexOf(widget);
+
+            if (position != -1) {
+                others.remove(position);
+                inputs.push(widget);
+            }
+        }
+
+        if (!requested) {
+            requested = true;
+            frame.accept(Scheduler::run);
+        }
+    }
+
+    /**
+     * <p>
+     * Run the scheduled units until the time budget of this frame is exhausted.
+     * </p>
+     */
+    private static void run() {
+        requested = false;
+        double deadline = performance.now() + budget;
+
+        // read layout before any patch modifies DOM in this frame
+        prioritize();
+
+        while (current != null || inputs.length() != 0 || others.length() != 0) {
+            if (current == null) {
+                begin(inputs.length() != 0 ? inputs.shift() : others.shift());
+            } else {
+                int end = Math.min(index + Batch, patches.size());
+
+                while (index < end) {
+                    patches.get(index++).apply();
+                }
+
+                if (index == patches.size()) {
+                    finish();
+                }
+            }
+
+            if (deadline <= performance.now()) {
+                if (current != null || inputs.length() != 0 || others.length() != 0) {
+                    requested = true;
+                    frame.accept(Scheduler::run);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Virtualize the specified widget and compute its patches.
+     * </p>
+     *
+     * @param widget A target widget.
+     */
+    private static void begin(Widget widget) {
+        // the widget which is updated from now is scheduled again
+        widget.scheduled = false;
+
+        // the widget is unrendered
+        if (widget.virtual == null) {
+            return;
+        }
+
+        current = widget;
+        next = StructureDSL.createWidget(widget);
+
+        WidgetLog.Diff.start();
+        patches = PatchDiff.diff(widget.virtual, next);
+        WidgetLog.Diff.stop();
+
+        index = 0;
+    }
+
+    /**
+     * <p>
+     * Replace the virtual structure of the rendering widget by the patched structure.
+     * </p>
+     */
+    private static void finish() {
+        VirtualElement prev = current.virtual;
+
+        if (prev == null) {
+            // the widget is unrendered while patching
+            next.dispose();
+        } else {
+            current.virtual = next;
+            prev.dispose();
+        }
+
+        current = null;
+        next = null;
+        patches = null;
+    }
+
+    /**
+     * <p>
+     * Move the widgets in the viewport to the head of the queue with keeping their order.
+     * </p>
+     */
+    private static void prioritize() {
+        int visibles = 0;
+
+        for (int i = 0; i < others.length(); i++) {
+            Widget widget = others.get(i);
+
+            if (visible.test(widget)) {
+                if (i != visibles) {
+                    others.remove(i);
+                    others.add(visibles, widget);
+                }
+                visibles++;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Check whether the specified widget is in the viewport or not.
+     * </p>
+     *
+     * @param widget A target widget.
+     * @return A result.
+     */
+    private static boolean isVisible(Widget widget) {
+        if (widget.virtual == null) {
+            return false;
+        }
+
+        Element element = widget.virtual.dom;
+
+        if (element == null) {
+            return false;
+        }
+
+        ClientRect rect = element.position();
+
+        return 0 < rect.bottom() && rect.top() < window.innerHeight;
+    }
+}
@@ -40,6 +40,15 @@ public abstract class StructureDSL {
 
     private static Widget latestWidget;
 
+    /** The latest virtual widget. */
+    private static VirtualWidget latestVirtualWidget;
+
+    /** The previous virtual structure of the latest widget, this is used to reuse nested widgets. */
+    private static VirtualWidget previousVirtualWidget;
+
+    /** The generation of rendering. */
+    static int generation;
+
     /** The context object to propagate implicitly. */
     private static Object localContext;
 
@@ -57,35 +66,115 @@ public abstract class StructureDSL {
         // store parent
         Widget parentWidget = latestWidget;
         VirtualElement parentElement = latestElement;
+        VirtualWidget parentVirtualWidget = latestVirtualWidget;
+        VirtualWidget parentPreviousVirtualWidget = previousVirtualWidget;
 
         widget.root = parentWidget == null ? widget : parentWidget.root;
 
+        // search the previous virtual structure of this widget
+        VirtualWidget previous = null;
+        int key = 0;
+
+        if (parentVirtualWidget == null) {
+            // start rendering
+            generation++;
+
+            if (widget.virtual instanceof VirtualWidget) {
+                previous = (VirtualWidget) widget.virtual;
+            }
+        } else {
+            key = parentElement.id * 31 + widget.id;
+
+            if (parentPreviousVirtualWidget != null && parentPreviousVirtualWidget.widgets != null) {
+                previous = (VirtualWidget) parentPreviousVirtualWidget.widgets.getProperty(key);
+
+                // reuse the previous virtual structure if the nested widget has nothing to change
+                if (previous != null && isReusable(previous, widget)) {
+                    parentPreviousVirtualWidget.widgets.deleteProperty(key);
+                    previous.generation = generation;
+                    parentElement.items.push(previous);
+                    parentVirtualWidget.register(key, previous);
+
+                    return previous;
+                }
+            }
+        }
+
         // create virtual element for this widget
         VirtualWidget virtualize = new VirtualWidget(widget.id, widget, localContext);
+        virtualize.generation = generation;
 
         // mount virtual element on virtual structure
         if (latestElement != null) {
             latestElement.items.push(virtualize);
         }
 
+        if (parentVirtualWidget != null) {
+            parentVirtualWidget.register(key, virtualize);
+        }
+
         latestWidget = widget;
         latestElement = virtualize;
+        latestVirtualWidget = virtualize;
+        previousVirtualWidget = previous;
 
         /**
          * Assemble {@link VirtualStructure} actually.
          */
         WidgetLog.Virtualize.start();
         widget.virtualize();
+        widget.modified = false;
         WidgetLog.Virtualize.stop();
 
         // restore parent
         latestWidget = parentWidget;
         latestElement = parentElement;
+        latestVirtualWidget = parentVirtualWidget;
+        previousVirtualWidget = parentPreviousVirtualWidget;
 
         // API definition
         return virtualize;
     }
 
+    /**
+     * <p>
+     * Check whether the previous virtual structure can be reused for the specified widget or not.
+     * </p>
+     * 
+     * @param previous A previous virtual structure.
+     * @param widget A widget to define.
+     * @return A result.
+     */
+    private static boolean isReusable(VirtualWidget previous, Widget widget) {
+        return previous.id == widget.id && previous.context == localContext && previous.widget.getClass() == widget
+                .getClass() && !widget.modified && !widget.shouldUpdate() && !isModified(previous);
+    }
+
+    /**
+     * <p>
+     * Check whether the widget of the specified virtual structure or any nested widget in it is
+     * modified after the latest virtualization. The reused structure is never virtualized again,
+     * so the modification of the nested widget would be lost.
+     * </p>
+     * 
+     * @param virtual A virtual structure to check.
+     * @return A result.
+     */
+    private static boolean isModified(VirtualWidget virtual) {
+        if (virtual.widget.modified) {
+            return true;
+        }
+
+        if (virtual.widgets != null) {
+            for (String key : virtual.widgets.keys()) {
+                if (isModified((VirtualWidget) virtual.widgets.getProperty(key))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * <p>
      * Internal API.
@@ -540,6 +629,64 @@ public abstract class StructureDSL {
         };
     }
 
+    /**
+     * <p>
+     * Define children in the windowed mode. Only the contents in the visible window (plus overscan)
+     * of the current element are virtualized, and the rows are recycled while scrolling.
+     * </p>
+     * 
+     * @param contents A list of contents.
+     * @param viewport A scrolling state.
+     * @param process A content writer.
+     * @return A declaration of contents.
+     */
+    public static final <C> Declarable contents(List<C> contents, Viewport<? super C> viewport, Consumer<C> process) {
+        return () -> {
+            // the current element is the scroll container
+            VirtualElement container = latestElement;
+            container.viewport = viewport;
+            viewport.widget = latestWidget;
+            viewport.layout((List) contents);
+
+            // store parent context
+            Object parentContext = localContext;
+            int parentModifier = localContextModifier;
+
+            container.items.push(spacer(-1, viewport.offset(viewport.start)));
+
+            for (int index = viewport.start; index < viewport.end; index++) {
+                C content = contents.get(index);
+
+                // the row identifier depends on the slot, so the row is recycled while scrolling
+                localContext = content;
+                localContextModifier = (index % viewport.capacity + 117) ^ 31;
+                process.accept(content);
+            }
+
+            // restore parent context
+            localContext = parentContext;
+            localContextModifier = parentModifier;
+
+            container.items.push(spacer(-2, viewport.offset(contents.size()) - viewport.offset(viewport.end)));
+        };
+    }
+
+    /**
+     * <p>
+     * Create the spacer element which stands for the contents outside of the window.
+     * </p>
+     * 
+     * @param id A local id.
+     * @param height A height of the spacer (px).
+     * @return A created spacer.
+     */
+    private static VirtualElement spacer(int id, double height) {
+        VirtualElement spacer = new VirtualElement(id, "div", null);
+        spacer.attributes.add("style", "height:" + height + "px");
+
+        return spacer;
+    }
+
     /**
      * <p>
      * Define children.
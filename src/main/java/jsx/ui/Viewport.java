@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package jsx.ui;
+
+import static js.lang.Global.*;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import js.dom.Element;
+import js.lang.NativeFunction;
+
+/**
+ * <p>
+ * The scrolling state of the windowed contents. Only the contents in the visible window (plus
+ * overscan) of the scroll container are virtualized, and the other contents are replaced by the
+ * spacer elements which keep the scroll height.
+ * </p>
+ * <p>
+ * The widget which declares the windowed contents must hold this object as its field to keep the
+ * scroll position across the renderings.
+ * </p>
+ *
+ * @version 2026/10/17 20:40:26
+ */
+public class Viewport<C> {
+
+    /** The fixed height of the item. */
+    private final double itemHeight;
+
+    /** The height calculator of the item. */
+    private final ToDoubleFunction<C> measure;
+
+    /** The number of items which are virtualized outside of the visible window. */
+    private int overscan = 3;
+
+    /** The scroll position of the container. */
+    private double top;
+
+    /** The visible height of the container. */
+    private double height = window.innerHeight;
+
+    /** The start position of each item, this is used for the measured height only. */
+    private double[] offsets;
+
+    /** The measured contents. */
+    private List<C> measured;
+
+    /** The number of recyclable row slots. */
+    int capacity;
+
+    /** The first index of the virtualized window (inclusive). */
+    int start;
+
+    /** The last index of the virtualized window (exclusive). */
+    int end;
+
+    /** The number of contents. */
+    private int size;
+
+    /** The widget which declares the windowed contents. */
+    Widget widget;
+
+    /** The observing scroll container. */
+    private Element container;
+
+    /** The scroll listener. */
+    private final NativeFunction listener = new NativeFunction(this::scroll);
+
+    /**
+     * <p>
+     * Create viewport with the fixed item height.
+     * </p>
+     *
+     * @param itemHeight A height of each item (px).
+     */
+    public Viewport(double itemHeight) {
+        this.itemHeight = itemHeight;
+        this.measure = null;
+    }
+
+    /**
+     * <p>
+     * Create viewport with the item height calculator.
+     * </p>
+     *
+     * @param measure A height calculator of each item (px).
+     */
+    public Viewport(ToDoubleFunction<C> measure) {
+        this.itemHeight = 0;
+        this.measure = measure;
+    }
+
+    /**
+     * <p>
+     * Configure the number of items which are virtualized outside of the visible window.
+     * </p>
+     *
+     * @param overscan A number of items.
+     * @return Chainable API.
+     */
+    public Viewport<C> overscan(int overscan) {
+        this.overscan = Math.max(0, overscan);
+
+        return this;
+    }
+
+    /**
+     * <p>
+     * Discard the measured heights. Call this method when the height of any content is changed.
+     * </p>
+     */
+    public void invalidate() {
+        measured = null;
+        offsets = null;
+    }
+
+    /**
+     * <p>
+     * Compute the virtualized window for the specified contents.
+     * </p>
+     *
+     * @param contents A list of contents.
+     */
+    void layout(List<C> contents) {
+        size = contents.size();
+
+        if (measure != null && (measured != contents || offsets.length != size + 1)) {
+            measured = contents;
+            offsets = new double[size + 1];
+
+            for (int i = 0; i < size; i++) {
+                offsets[i + 1] = offsets[i] + measure.applyAsDouble(contents.get(i));
+            }
+        }
+
+        start = Math.max(0, indexAt(top) - overscan);
+        end = Math.min(size, indexAt(top + height) + 1 + overscan);
+        capacity = Math.max(capacity, end - start);
+    }
+
+    /**
+     * <p>
+     * Compute the start position of the specified item.
+     * </p>
+     *
+     * @param index An item index.
+     * @return A position (px).
+     */
+    double offset(int index) {
+        return offsets == null ? index * itemHeight : offsets[index];
+    }
+
+    /**
+     * <p>
+     * Search the item index at the specified position.
+     * </p>
+     *
+     * @param position A position (px).
+     * @return An item index.
+     */
+    private int indexAt(double position) {
+        if (offsets == null) {
+            return itemHeight <= 0 ? 0 : (int) (position / itemHeight);
+        }
+
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+
+            if (offsets[middle + 1] <= position) {
+                low = middle + 1;
+            } else if (position < offsets[middle]) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * <p>
+     * Observe the scroll of the specified container.
+     * </p>
+     *
+     * @param container A scroll container.
+     */
+    void observe(Element container) {
+        if (this.container != container) {
+            if (this.container != null) {
+                this.container.removeEventListener(User.Scroll, listener);
+            }
+            this.container = container;
+            this.container.addEventListener(User.Scroll, listener);
+        }
+    }
+
+    /**
+     * <p>
+     * Read the scroll position and render the new window when the visible items exceed the
+     * virtualized window.
+     * </p>
+     */
+    private void scroll() {
+        double visible = container.clientHeight();
+
+        top = container.scrollTop();
+        height = visible <= 0 ? height : visible;
+
+        int first = indexAt(top);
+        int last = Math.min(size, indexAt(top + height) + 1);
+
+        if ((first < start || end < last) && widget != null && widget.root != null) {
+            // scroll is user input, render it preferentially
+            boolean input = Scheduler.input;
+            Scheduler.input = true;
+
+            try {
+                widget.root.update();
+            } finally {
+                Scheduler.input = input;
+            }
+        }
+    }
+}
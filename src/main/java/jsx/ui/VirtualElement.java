@@ -42,6 +42,9 @@ public class VirtualElement extends VirtualNode<Element> {
     /** The parent widget. */
     Widget widget;
 
+    /** The scrolling state of the windowed contents. */
+    Viewport viewport;
+
     /**
      * @param id
      * @param name
@@ -97,29 +100,17 @@ public class VirtualElement extends VirtualNode<Element> {
             dom.append(items.get(i).materialize());
         }
 
+        // observe scroll of the windowed contents
+        if (viewport != null) {
+            viewport.observe(dom);
+        }
+
         WidgetLog.MaterializeElement.stop();
 
         // API definition
         return dom;
     }
 
-    /**
-     * <p>
-     * Find index for the specified node.
-     * </p>
-     * 
-     * @param node A target node to search.
-     * @return A index of the specified node.
-     */
-    final int indexOf(VirtualNode node) {
-        for (int index = 0, length = items.length(); index < length; index++) {
-            if (items.get(index).id == node.id) {
-                return index;
-            }
-        }
-        return -1;
-    }
-
     /**
      * {@inheritDoc}
      */
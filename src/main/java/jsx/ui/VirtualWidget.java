@@ -10,6 +10,7 @@
 package jsx.ui;
 
 import js.dom.Element;
+import js.lang.NativeObject;
 
 /**
  * @version 2015/01/20 11:11:42
@@ -19,6 +20,12 @@ class VirtualWidget extends VirtualElement {
     /** The associated widget. */
     final Widget widget;
 
+    /** The generation of the latest rendering which uses this virtual structure. */
+    int generation;
+
+    /** The virtual structures of the nested widgets. */
+    NativeObject widgets;
+
     /**
      * @param id
      * @param widget
@@ -30,6 +37,21 @@ class VirtualWidget extends VirtualElement {
         this.classList.push(Widget.WidgetRoot);
     }
 
+    /**
+     * <p>
+     * Register the virtual structure of the nested widget.
+     * </p>
+     * 
+     * @param key A key which consists of the parent element id and the widget id.
+     * @param nested A virtual structure of the nested widget.
+     */
+    void register(int key, VirtualWidget nested) {
+        if (widgets == null) {
+            widgets = new NativeObject();
+        }
+        widgets.setProperty(key, nested);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -41,4 +63,15 @@ class VirtualWidget extends VirtualElement {
 
         return element;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void vandalize() {
+        // the reused structure is still alive in the latest rendering
+        if (generation != StructureDSL.generation) {
+            super.vandalize();
+        }
+    }
 }
@@ -9,17 +9,13 @@
  */
 package jsx.ui;
 
-import static js.lang.Global.requestAnimationFrame;
-
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -36,7 +32,6 @@ import js.dom.UIEvent;
 import js.lang.NativeArray;
 import js.lang.NativeFunction;
 import js.util.HashMap;
-import jsx.debug.Profile;
 import jsx.style.Style;
 import jsx.style.StyleDSL;
 import jsx.ui.flux.Interactive;
@@ -57,9 +52,6 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
     protected static final Style WidgetRoot = () -> {
     };
 
-    /** The update scheduler. */
-    private static Set<Widget> updater = new HashSet();
-
     /** The root widget. */
     Widget root;
 
@@ -71,6 +63,7 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
 
     /** The view updater. */
     protected final WiseConsumer<Object> updateView = v -> {
+        modified = true;
         if (root != null) root.update();
     };
 
@@ -81,7 +74,13 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
     private NativeArray<EventContext> locators;
 
     /** The virtual root element. */
-    private VirtualElement virtual;
+    VirtualElement virtual;
+
+    /** The flag whether this widget's state is changed after the latest virtualization. */
+    boolean modified;
+
+    /** The flag whether this widget is scheduled to render. */
+    boolean scheduled;
 
     /**
      * <p>
@@ -122,28 +121,7 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
      * </p>
      */
     protected final void update() {
-        updater.add(this);
-
-        if (updater.size() == 1) {
-            requestAnimationFrame(() -> {
-                for (Widget widget : updater) {
-                    // create new virtual element
-                    VirtualElement next = StructureDSL.createWidget(widget);
-
-                    // create patch to manipulate DOM and apply it
-                    WidgetLog.Diff.start();
-                    PatchDiff.apply(widget.virtual, next);
-                    WidgetLog.Diff.stop();
-
-                    Profile.show();
-
-                    // update to new virtual element
-                    widget.virtual = next;
-                }
-                updater.clear();
-                System.out.println("Run rendering on RAF timing.");
-            });
-        }
+        Scheduler.schedule(this);
     }
 
     /**
@@ -204,7 +182,6 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
 
         initializeEventListeners(rootElement);
         update();
-        System.out.println("renderin " + getClass());
     }
 
     /**
@@ -220,15 +197,16 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
         // this.virtual.dom = null;
         this.virtual = null;
         this.root = null;
-        System.out.println("renderout " + getClass());
     }
 
     /**
      * <p>
-     * Validate a state of this widget.
+     * Validate a state of this widget. When the nested widget has the same id as the previous
+     * rendering and returns <code>false</code>, the previous virtual structure is reused and both
+     * virtualization and diff of its subtree are skipped.
      * </p>
      * 
-     * @return
+     * @return <code>true</code> if this widget must be virtualized again.
      */
     protected boolean shouldUpdate() {
         return true;
@@ -385,8 +363,16 @@ public abstract class Widget<Styles extends StyleDSL> implements Declarable {
                 event.preventDefault();
             }
 
-            for (Observer observer : observers) {
-                observer.accept(useUIEvent ? event : element.property(Interactive.class.getName()));
+            // the widget which is updated by user input is rendered preferentially
+            boolean input = Scheduler.input;
+            Scheduler.input = true;
+
+            try {
+                for (Observer observer : observers) {
+                    observer.accept(useUIEvent ? event : element.property(Interactive.class.getName()));
+                }
+            } finally {
+                Scheduler.input = input;
             }
         }
     }
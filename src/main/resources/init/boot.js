@@ -17,43 +17,22 @@
  *
  * @param {Class} interfaceClass An interface class.
  * @param {String} interfaceMethodName A single abstract method name.
- * @param {String} lambdaMethodName A lambda method name.
- * @param {Object} lambdaMethodHolder A lambda method holder object. This is optional.
- * @param {Array} params A list of parameters. This is optional.
+ * @param {Function} method A function which invokes the lambda method.
  * @return {Object} A created instance of the specified functional interface.
  */
-function λ(interfaceClass, interfaceMethodName, lambdaMethodName, lambdaMethodHolder, params) {
+function λ(interfaceClass, interfaceMethodName, method) {
   // create lambda instance from interface definition
   var lambda = Object.create(interfaceClass.prototype);
-  
-  if (lambdaMethodName.charAt(0) === '$') {
-    // for constructor
-    lambda[interfaceMethodName] = function() {
-      // create new instance
-      var instance = Object.create(lambdaMethodHolder);
-      
-      // invoke constructor
-      instance[lambdaMethodName].apply(instance, arguments);
-      
-      // return it
-      return instance;
-    };    
-  } else {
-    // for method
-    if (lambdaMethodHolder !== undefined) {
-      // assign lambda method with partial application (context and parameters)
-      lambda[interfaceMethodName] = Function.prototype.bind.apply(lambdaMethodHolder[lambdaMethodName], [lambdaMethodHolder].concat(params));
-    } else {
-      lambda[interfaceMethodName] = function() {
-        var args = Array.prototype.slice.call(arguments);
-        
-        return args[0][lambdaMethodName].apply(args.shift(), args);
-      };
-    }
-  }
+  lambda[interfaceMethodName] = method;
+
   return lambda;
 }
 
+/**
+ * The cache of non-capturing lambda instances. (keyed by the site identifier)
+ */
+λ.$ = {};
+
 /**
  * Initialize the specified array. (all elements are initialized by 0, false or null)
  *
@@ -195,10 +174,9 @@ function boot(global) {
       // Default superClass is javascript native Object.
       var superClass = boot.direct[superClassName] || Object;
 
-      // This is actual counstructor of class to define.
+      // This is actual counstructor of class to define. The instance is created by the factory
+      // of each constructor (i.e. Class.$0) which invokes the constructor method directly.
       function Class() {
-        // Invoke the specified constructor function.
-        this["$" + arguments[arguments.length - 1]].apply(this, arguments);
       }
 
       // We must store static initialization function.
@@ -262,6 +240,9 @@ function boot(global) {
             init();
             init = null;
 
+            // register the statically declared styles which are extracted at build time
+            if (Class.ς) Class.ς();
+
             // API definition
             return Class;
           }
@@ -284,7 +265,7 @@ function boot(global) {
         configurable: true,
         get: function() {
           Object.defineProperty(Class, "$", {
-            value: new (boot.A || boot.js_lang_reflect_JSClass)(name, prototype, metadata.$, superClass.$, metadata, 0)
+            value: (boot.A || boot.js_lang_reflect_JSClass).$0(name, prototype, metadata.$, superClass.$, metadata)
           });
           return Class["$"];
         }
@@ -312,6 +293,18 @@ function boot(global) {
           // so Class.prototype property hides prototype chained properties.
           // The class which has class-tree (i.e. Element <- Node) must also imports methods
           // from super class.
+          // The primitive arrays are backed by typed arrays, so they must import the same
+          // methods as Array.
+          if (clazz === Array) {
+            boot.arrays.forEach(function(typed) {
+              define(typed.prototype, Class.prototype);
+
+              for (var parent = superClass; parent != Object; parent = parent.super) {
+                define(typed.prototype, parent.prototype, true);
+              }
+            });
+          }
+
           while (superClass != Object) {
             define(clazz.prototype, superClass.prototype, true);
             
@@ -325,7 +318,51 @@ function boot(global) {
       
       Class.super = superClass;
     },
+
+    /**
+     * <p>
+     * Redefine the already defined class for live coding. The static and member methods are
+     * replaced in place, so the existing instances use the new definition immediately. The
+     * static initializer is never invoked again.
+     * </p>
+     * 
+     * @param {String} name A simple class name of a class to redefine.
+     * @param {String} superClassName A simple parent class name.
+     * @param {Object} definition A class definition.
+     * @param {Object} metadata A metadata definition.
+     * @param {} nativeClass A native object name.
+     */
+    redefine: function(name, superClassName, interfaces, definition, metadata, nativeClass) {
+      var Class = boot.direct[name];
+
+      if (!Class) {
+        boot.define(name, superClassName, interfaces, definition, metadata, nativeClass);
+        return;
+      }
+
+      var clazz = nativeClass && global[nativeClass];
+
+      // discard the lambda instances which may refer the previous definition
+      λ.$ = {};
+
+      for (var i in definition) {
+        if (i.charAt(0) == "_") {
+          if (i.length != 1) {
+            // replace static method
+            Class[i.substring(1)] = definition[i];
+          }
+        } else {
+          // replace member method
+          Class.prototype[i] = definition[i];
+
+          if (clazz) {
+            clazz.prototype[i] = definition[i];
+          }
+        }
+      }
+    },
     
+
     /**
      * <p>
      * Helper property to map from the specified Java class name to javascript runtime class name.
@@ -341,6 +378,53 @@ function boot(global) {
      */
     extensions: [],
 
+    /**
+     * <p>
+     * Helper property to hold the typed array classes which back the primitive arrays.
+     * </p>
+     */
+    arrays: [Int8Array, Int16Array, Int32Array, Float64Array],
+
+    /**
+     * <p>
+     * Helper method to create the typed array.
+     * </p>
+     *
+     * @param {String} name A class name of typed array.
+     * @param {Number} length A length of new array.
+     * @return {Object} A created typed array.
+     */
+    typed: function(name, length) {
+      return new global[name](length);
+    },
+
+    /**
+     * <p>
+     * Helper method to compare numbers in ascending order. NaN is greater than any other value.
+     * </p>
+     *
+     * @param {Number} one The first value.
+     * @param {Number} other The second value.
+     * @return {Number} The result.
+     */
+    numeric: function(one, other) {
+      if (one < other) {
+        return -1;
+      }
+
+      if (other < one) {
+        return 1;
+      }
+
+      if (one === other) {
+        // Java orders -0.0 before 0.0
+        one = 1 / one;
+        other = 1 / other;
+        return one < other ? -1 : other < one ? 1 : 0;
+      }
+      return isNaN(one) ? (isNaN(other) ? 0 : 1) : -1;
+    },
+
     /**
      * <p>
      * Helper method to define property descriptor for Java environment.
@@ -369,6 +453,19 @@ function boot(global) {
       return typeof value === "string" || value instanceof String;
     },
 
+    /**
+     * <p>
+     * Helper method to chech whether the specified value implements the interface or not.
+     * </p>
+     *
+     * @param {Object} value The value to test.
+     * @param {String} marker The marker property name of the interface.
+     * @return {boolean} The result.
+     */
+    isImplemented: function(value, marker) {
+      return value != null && value[marker] === 1;
+    },
+
     /**
      * <p>
      * Helper method to chech whether the specified value is Number or not.
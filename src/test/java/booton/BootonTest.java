@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton;
+
+import org.junit.Test;
+
+import booton.translator.Javascript;
+
+/**
+ * @version 2026/10/18 11:20:14
+ */
+public class BootonTest {
+
+    @Test
+    public void redefine() throws Exception {
+        assert Booton.redefine("boot.define(\"A\",\"\",\"\",{});").equals("boot.redefine(\"A\",\"\",\"\",{});");
+    }
+
+    @Test
+    public void redefineAfterComment() throws Exception {
+        assert Booton.redefine("//A\r\nboot.define(\"A\",\"B\",\"\",{});")
+                .equals("//A\r\nboot.redefine(\"A\",\"B\",\"\",{});");
+    }
+
+    @Test
+    public void redefineWithoutDefinition() throws Exception {
+        assert Booton.redefine("").equals("");
+    }
+
+    @Test
+    public void redefineRecompiledClass() throws Exception {
+        String code = Javascript.getScript(Target.class).getCode();
+        String patch = Booton.redefine(Javascript.recompile(Target.class));
+
+        assert !patch.contains("boot.define(");
+        assert patch.contains("boot.redefine(");
+        assert patch.replace("boot.redefine(", "boot.define(").equals(code);
+    }
+
+    /**
+     * @version 2026/10/18 11:20:14
+     */
+    private static class Target {
+
+        private int value;
+
+        public int increment() {
+            return ++value;
+        }
+    }
+}
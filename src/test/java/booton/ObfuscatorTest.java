@@ -34,4 +34,32 @@ public class ObfuscatorTest {
         assert Obfuscator.mung52(51).equals("Z");
         assert Obfuscator.mung52(52).equals("ba");
     }
+
+    @Test
+    public void ranking() throws Exception {
+        int[] frequency = {1, 5, 0, 3};
+
+        Obfuscator.Ranking ranking = new Obfuscator.Ranking();
+        assert ranking.map(2) == 2;
+
+        ranking.rank(4, ordinal -> frequency[ordinal], ordinal -> false);
+        assert ranking.map(0) == 2;
+        assert ranking.map(1) == 0;
+        assert ranking.map(2) == 3;
+        assert ranking.map(3) == 1;
+        assert ranking.map(4) == 4;
+    }
+
+    @Test
+    public void rankingWithFixed() throws Exception {
+        int[] frequency = {1, 5, 0, 3};
+
+        Obfuscator.Ranking ranking = new Obfuscator.Ranking();
+        ranking.rank(4, ordinal -> frequency[ordinal], ordinal -> ordinal == 0);
+        assert ranking.map(0) == 0;
+        assert ranking.map(1) == 1;
+        assert ranking.map(2) == 3;
+        assert ranking.map(3) == 2;
+    }
+
 }
@@ -44,7 +44,6 @@ import booton.translator.TranslationError;
 import jsx.debug.Profile;
 import kiss.I;
 import net.sourceforge.htmlunit.corejs.javascript.EcmaError;
-import net.sourceforge.htmlunit.corejs.javascript.NativeArray;
 import net.sourceforge.htmlunit.corejs.javascript.NativeObject;
 import net.sourceforge.htmlunit.corejs.javascript.ScriptableObject;
 import net.sourceforge.htmlunit.corejs.javascript.Undefined;
@@ -210,7 +209,7 @@ public class ScriptTester {
                         // write test script
                         StringBuilder invoker = new StringBuilder();
                         invoker.append("try {");
-                        invoker.append("new ").append(className).append("(").append(constructorName).append(").");
+                        invoker.append(className).append(".$").append(constructorName).append("().");
                         invoker.append(methodName).append("(");
                         if (input != NONE) {
                             if (input instanceof String || input instanceof Character) {
@@ -558,7 +557,7 @@ public class ScriptTester {
                 // FLOAT
                 // ========================
                 java = new BigDecimal((Float) java).round(new MathContext(3));
-                js = new BigDecimal((Double) js).round(new MathContext(3));
+                js = new BigDecimal(((Number) js).doubleValue()).round(new MathContext(3));
 
                 assert java.equals(js);
             } else if (type == Double.class) {
@@ -566,19 +565,19 @@ public class ScriptTester {
                 // DOUBLE
                 // ========================
                 java = new BigDecimal((Double) java).round(new MathContext(3));
-                js = new BigDecimal((Double) js).round(new MathContext(3));
+                js = new BigDecimal(((Number) js).doubleValue()).round(new MathContext(3));
 
                 assert java.equals(js);
             } else if (type == Short.class) {
                 // ========================
                 // SHORT
                 // ========================
-                assert ((Short) java).doubleValue() == ((Double) js).doubleValue();
+                assert ((Short) java).doubleValue() == ((Number) js).doubleValue();
             } else if (type == Byte.class) {
                 // ========================
                 // BYTE
                 // ========================
-                assert ((Byte) java).doubleValue() == ((Double) js).doubleValue();
+                assert ((Byte) java).doubleValue() == ((Number) js).doubleValue();
             } else if (type == Boolean.class) {
                 // ========================
                 // BOOLEAN
@@ -646,16 +645,18 @@ public class ScriptTester {
      * @param js
      */
     private void assertArray(Object java, Object js) {
-        assert js instanceof NativeArray;
+        // primitive array is backed by typed array
+        assert js instanceof ScriptableObject;
 
-        NativeArray array = (NativeArray) js;
+        ScriptableObject array = (ScriptableObject) js;
+        int length = ((Number) ScriptableObject.getProperty(array, "length")).intValue();
 
         // check array size
-        assert Array.getLength(java) == array.getLength();
+        assert Array.getLength(java) == length;
 
         // check each items
-        for (int i = 0; i < array.getLength(); i++) {
-            assertObject(Array.get(java, i), array.get(i, null));
+        for (int i = 0; i < length; i++) {
+            assertObject(Array.get(java, i), ScriptableObject.getProperty(array, i));
         }
     }
 
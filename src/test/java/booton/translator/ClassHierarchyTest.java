@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @version 2026/10/18 12:10:52
+ */
+public class ClassHierarchyTest {
+
+    @After
+    public void open() {
+        ClassHierarchy.open();
+    }
+
+    @Test
+    public void openWorld() throws Exception {
+        assert !ClassHierarchy.isMonomorphic(Base.class, "getValue", "()I");
+        assert JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Base.class, "getValue", "()I", ClassHierarchyTest.class) == null;
+    }
+
+    @Test
+    public void monomorphic() throws Exception {
+        // the overriding subclass exists but it is not reachable
+        ClassHierarchy.close(Arrays.asList(Base.class, Extended.class));
+
+        assert ClassHierarchy.isMonomorphic(Base.class, "getValue", "()I");
+        assert JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Base.class, "getValue", "()I", ClassHierarchyTest.class) != null;
+    }
+
+    @Test
+    public void overridden() throws Exception {
+        ClassHierarchy.close(Arrays.asList(Base.class, Extended.class, Overriding.class));
+
+        assert !ClassHierarchy.isMonomorphic(Base.class, "getValue", "()I");
+        assert JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Base.class, "getValue", "()I", ClassHierarchyTest.class) == null;
+
+        // the subclass which doesn't override the method is still monomorphic
+        assert ClassHierarchy.isMonomorphic(Base.class, "getName", "()Ljava/lang/String;");
+    }
+
+    @Test
+    public void reopen() throws Exception {
+        ClassHierarchy.close(Arrays.asList(Base.class));
+        assert ClassHierarchy.isMonomorphic(Base.class, "getValue", "()I");
+
+        // the next build analyzes its own world
+        ClassHierarchy.open();
+        assert !ClassHierarchy.isMonomorphic(Base.class, "getValue", "()I");
+
+        ClassHierarchy.close(Arrays.asList(Base.class, Overriding.class));
+        assert !ClassHierarchy.isMonomorphic(Base.class, "getValue", "()I");
+    }
+
+    /**
+     * @version 2026/10/18 12:10:52
+     */
+    private static class Base {
+
+        private int value;
+
+        private String name;
+
+        int getValue() {
+            return value;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * @version 2026/10/18 12:10:52
+     */
+    private static class Extended extends Base {
+    }
+
+    /**
+     * @version 2026/10/18 12:10:52
+     */
+    private static class Overriding extends Extended {
+
+        @Override
+        int getValue() {
+            return 10;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import static org.objectweb.asm.Opcodes.*;
+
+import org.junit.Test;
+
+import booton.translator.JavaMethodInliner.Accessor;
+
+/**
+ * @version 2026/10/18 11:48:30
+ */
+public class JavaMethodInlinerTest {
+
+    @Test
+    public void getter() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Bean.class, "getValue", "()I", JavaMethodInlinerTest.class) != null;
+    }
+
+    @Test
+    public void setter() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Bean.class, "setValue", "(I)V", JavaMethodInlinerTest.class) != null;
+    }
+
+    @Test
+    public void nonTrivial() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Bean.class, "twice", "()I", JavaMethodInlinerTest.class) == null;
+    }
+
+    @Test
+    public void constant() throws Exception {
+        Accessor accessor = JavaMethodInliner.findAccessor(INVOKEVIRTUAL, Bean.class, "size", "()I", JavaMethodInlinerTest.class);
+
+        assert accessor != null;
+        assert accessor.accept(new OperandExpression("this"));
+        assert !accessor.accept(new OperandExpression("a.b()"));
+    }
+
+    @Test
+    public void superCall() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKESPECIAL, Parent.class, "getValue", "()I", Child.class) != null;
+    }
+
+    @Test
+    public void staticCall() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKESTATIC, Parent.class, "count", "()I", Child.class) != null;
+
+        // the invocation from other class may initialize the owner class
+        assert JavaMethodInliner.findAccessor(INVOKESTATIC, Parent.class, "count", "()I", JavaMethodInlinerTest.class) == null;
+    }
+
+    @Test
+    public void constructor() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKESPECIAL, Bean.class, "<init>", "()V", JavaMethodInlinerTest.class) == null;
+    }
+
+    @Test
+    public void interfaceCall() throws Exception {
+        assert JavaMethodInliner.findAccessor(INVOKEINTERFACE, Sized.class, "size", "()I", JavaMethodInlinerTest.class) == null;
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static interface Sized {
+
+        int size();
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static final class Bean implements Sized {
+
+        private int value;
+
+        int getValue() {
+            return value;
+        }
+
+        void setValue(int value) {
+            this.value = value;
+        }
+
+        int twice() {
+            return value * 2;
+        }
+
+        @Override
+        public int size() {
+            return 3;
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static class Parent {
+
+        private static int count = 5;
+
+        private int value;
+
+        static int count() {
+            return count;
+        }
+
+        int getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static class Child extends Parent {
+
+        @Override
+        int getValue() {
+            return super.getValue() + 1;
+        }
+    }
+}
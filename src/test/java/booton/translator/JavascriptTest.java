@@ -0,0 +1,357 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import org.junit.Test;
+
+import booton.BootonConfiguration;
+import kiss.I;
+
+/**
+ * @version 2026/10/18 11:20:14
+ */
+public class JavascriptTest {
+
+    @Test
+    public void recompile() throws Exception {
+        Javascript script = Javascript.getScript(Target.class);
+        String code = script.getCode();
+
+        // the same byte code produces the same definition with the same identifiers
+        assert Javascript.recompile(Target.class).equals(code);
+        assert Javascript.getScript(Target.class) == script;
+        assert script.getCode().equals(code);
+    }
+
+    @Test
+    public void recompileUnscripted() throws Exception {
+        assert Javascript.recompile(Unscripted.class) == null;
+        assert !Javascript.hasScript(Unscripted.class);
+    }
+
+    @Test
+    public void compileInParallel() throws Exception {
+        BootonConfiguration config = I.make(BootonConfiguration.class);
+        boolean parallel = config.parallel;
+
+        try {
+            config.parallel = false;
+            String sequential = compile(Large.class);
+
+            // the class has no lambda and virtual structure, so the output is identical
+            config.parallel = true;
+            assert compile(Large.class).equals(sequential);
+            assert compile(Large.class).equals(sequential);
+        } finally {
+            config.parallel = parallel;
+        }
+    }
+
+    /**
+     * <p>
+     * Compile the specified class without the cached code.
+     * </p>
+     * 
+     * @param type A target class.
+     * @return A compiled code.
+     */
+    private static String compile(Class type) {
+        Javascript script = Javascript.getScript(type);
+        CompilerRecorder.startCompiling(script);
+
+        try {
+            return script.compileActually();
+        } finally {
+            CompilerRecorder.finishCompiling(script);
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:20:14
+     */
+    private static class Target {
+
+        private String name = "target";
+
+        public String name() {
+            return name;
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:20:14
+     */
+    private static class Unscripted {
+    }
+
+    /**
+     * @version 2026/10/18 14:02:51
+     */
+    private static class Large {
+
+        int m00(int value) {
+            return value + 0;
+        }
+
+        int m01(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 1;
+        }
+
+        int m02(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 2;
+        }
+
+        int m03(int value) {
+            switch (value) {
+            case 0:
+                return 3;
+
+            case 1:
+                return value + 3;
+
+            default:
+                return m02(value - 1);
+            }
+        }
+
+        int m04(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 4;
+            }
+        }
+
+        int m05(int value) {
+            return String.valueOf(value).length() + m00(value);
+        }
+
+        int m06(int value) {
+            return value + 6;
+        }
+
+        int m07(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 7;
+        }
+
+        int m08(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 8;
+        }
+
+        int m09(int value) {
+            switch (value) {
+            case 0:
+                return 9;
+
+            case 1:
+                return value + 9;
+
+            default:
+                return m08(value - 1);
+            }
+        }
+
+        int m10(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 10;
+            }
+        }
+
+        int m11(int value) {
+            return String.valueOf(value).length() + m06(value);
+        }
+
+        int m12(int value) {
+            return value + 12;
+        }
+
+        int m13(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 13;
+        }
+
+        int m14(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 14;
+        }
+
+        int m15(int value) {
+            switch (value) {
+            case 0:
+                return 15;
+
+            case 1:
+                return value + 15;
+
+            default:
+                return m14(value - 1);
+            }
+        }
+
+        int m16(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 16;
+            }
+        }
+
+        int m17(int value) {
+            return String.valueOf(value).length() + m12(value);
+        }
+
+        int m18(int value) {
+            return value + 18;
+        }
+
+        int m19(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 19;
+        }
+
+        int m20(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 20;
+        }
+
+        int m21(int value) {
+            switch (value) {
+            case 0:
+                return 21;
+
+            case 1:
+                return value + 21;
+
+            default:
+                return m20(value - 1);
+            }
+        }
+
+        int m22(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 22;
+            }
+        }
+
+        int m23(int value) {
+            return String.valueOf(value).length() + m18(value);
+        }
+
+        int m24(int value) {
+            return value + 24;
+        }
+
+        int m25(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 25;
+        }
+
+        int m26(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 26;
+        }
+
+        int m27(int value) {
+            switch (value) {
+            case 0:
+                return 27;
+
+            case 1:
+                return value + 27;
+
+            default:
+                return m26(value - 1);
+            }
+        }
+
+        int m28(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 28;
+            }
+        }
+
+        int m29(int value) {
+            return String.valueOf(value).length() + m24(value);
+        }
+
+        int m30(int value) {
+            return value + 30;
+        }
+
+        int m31(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 31;
+        }
+
+        int m32(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 32;
+        }
+
+        int m33(int value) {
+            switch (value) {
+            case 0:
+                return 33;
+
+            case 1:
+                return value + 33;
+
+            default:
+                return m32(value - 1);
+            }
+        }
+    }
+}
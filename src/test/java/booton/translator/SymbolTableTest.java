@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import org.junit.Test;
+
+/**
+ * @version 2026/10/17 13:20:41
+ */
+public class SymbolTableTest {
+
+    @Test
+    public void order() throws Exception {
+        SymbolTable table = new SymbolTable();
+        assert table.order(10) == 0;
+        assert table.order(-5) == 1;
+        assert table.order(10) == 0;
+        assert table.order(0) == 2;
+        assert table.order(-5) == 1;
+        assert table.size() == 3;
+    }
+
+    @Test
+    public void grow() throws Exception {
+        SymbolTable table = new SymbolTable();
+
+        for (int i = 0; i < 10000; i++) {
+            assert table.order(("member" + i).hashCode()) == i;
+        }
+
+        for (int i = 0; i < 10000; i++) {
+            assert table.order(("member" + i).hashCode()) == i;
+        }
+        assert table.size() == 10000;
+    }
+
+    @Test
+    public void contains() throws Exception {
+        SymbolTable table = new SymbolTable();
+        assert !table.contains(1);
+
+        table.order(1);
+        assert table.contains(1);
+        assert !table.contains(2);
+    }
+
+    @Test
+    public void addAll() throws Exception {
+        SymbolTable parent = new SymbolTable();
+        parent.order(3);
+        parent.order(1);
+
+        SymbolTable child = new SymbolTable();
+        child.addAll(parent);
+        child.order(2);
+
+        assert child.order(3) == 0;
+        assert child.order(1) == 1;
+        assert child.order(2) == 2;
+        assert child.startsWith(parent);
+        assert !parent.startsWith(child);
+    }
+
+    @Test
+    public void sort() throws Exception {
+        SymbolTable table = new SymbolTable();
+        table.order(50);
+        table.order(30);
+        table.order(20);
+        table.order(-10);
+
+        assert table.sort(1);
+        assert table.order(50) == 0;
+        assert table.order(-10) == 1;
+        assert table.order(20) == 2;
+        assert table.order(30) == 3;
+        assert table.size() == 4;
+
+        // already sorted
+        assert !table.sort(1);
+        assert !table.sort(3);
+    }
+}
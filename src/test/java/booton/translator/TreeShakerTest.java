@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * @version 2026/10/17 15:48:20
+ */
+public class TreeShakerTest {
+
+    @Test
+    public void strip() throws Exception {
+        String code = define(member("a", false, "b"), member("b", false));
+
+        assert TreeShaker.strip(code).equals("{a:1,b:2}");
+    }
+
+    @Test
+    public void shake() throws Exception {
+        String code = define(member("a", false, "b"), member("b", false), member("c", false, "a"));
+
+        TreeShaker shaker = new TreeShaker(true, false);
+        shaker.add(code);
+        shaker.root("a");
+
+        Set<String> reachable = shaker.shake();
+        assert reachable.contains("a");
+        assert reachable.contains("b");
+        assert !reachable.contains("c");
+        assert shaker.write(code).equals("{a:1,b:2}");
+    }
+
+    @Test
+    public void shakeFirst() throws Exception {
+        String code = define(member("a", false), member("b", false));
+
+        TreeShaker shaker = new TreeShaker(true, false);
+        shaker.add(code);
+        shaker.root("b");
+        shaker.shake();
+
+        assert shaker.write(code).equals("{b:2}");
+    }
+
+    @Test
+    public void entry() throws Exception {
+        String code = define(member("a", true, "c"), member("b", false), member("c", false));
+
+        TreeShaker shaker = new TreeShaker(true, false);
+        shaker.add(code);
+        shaker.shake();
+
+        assert shaker.write(code).equals("{a:1,c:3}");
+    }
+
+    @Test
+    public void keepAll() throws Exception {
+        String code = define(member("a", false), member("b", false));
+
+        TreeShaker shaker = new TreeShaker(false, false);
+        shaker.add(code);
+        shaker.shake();
+
+        assert shaker.write(code).equals("{a:1,b:2}");
+    }
+
+    @Test
+    public void prune() throws Exception {
+        String used = metadata("#A", "A");
+        String unused = metadata(null, "B");
+
+        TreeShaker shaker = new TreeShaker(false, true);
+        shaker.add(used);
+        shaker.add(unused);
+        shaker.shake();
+
+        assert shaker.write(used).equals("{$:[0],m:[1]}");
+        assert shaker.write(unused).equals("{$:[0]}");
+        assert TreeShaker.strip(unused).equals("{$:[0],m:[1]}");
+    }
+
+    @Test
+    public void stripStream() throws Exception {
+        String code = define(member("a", false, "b"), member("b", true)) + metadata("#A", "A");
+
+        // the markers are split into the separated writes
+        StringBuilder builder = new StringBuilder();
+        Appendable output = TreeShaker.strip(builder);
+
+        for (int i = 0; i < code.length(); i += 3) {
+            output.append(code, i, Math.min(i + 3, code.length()));
+        }
+        assert builder.toString().equals(TreeShaker.strip(code));
+        assert builder.toString().equals("{a:1,b:2}{$:[0],m:[1]}");
+    }
+
+    @Test
+    public void markerInLiteral() throws Exception {
+        String literal = new OperandString("a\uE000b\uE006").toString();
+        assert literal.equals("\"a\\uE000b\\uE006\"");
+
+        String code = define(member("a", false), "s:" + literal);
+        assert TreeShaker.strip(code).equals("{a:1,s:" + literal + "}");
+    }
+
+    /**
+     * <p>
+     * Helper method to build class definition.
+     * </p>
+     */
+    private String define(String... members) {
+        return "{" + String.join(",", members) + "}";
+    }
+
+    /**
+     * <p>
+     * Helper method to build marked member.
+     * </p>
+     */
+    private String member(String name, boolean entry, String... references) {
+        ScriptWriter code = new ScriptWriter();
+        TreeShaker.startMember(code, name, entry);
+
+        for (String reference : references) {
+            TreeShaker.record(reference);
+        }
+        code.append(name, ":", name.charAt(0) - 'a' + 1);
+        TreeShaker.endMember(code);
+
+        return code.toString();
+    }
+
+    /**
+     * <p>
+     * Helper method to build marked metadata with the class level reference.
+     * </p>
+     */
+    private String metadata(String reference, String name) {
+        ScriptWriter code = new ScriptWriter();
+        TreeShaker.startClass();
+
+        if (reference != null) {
+            TreeShaker.record(reference);
+        }
+
+        code.append("{$:[0]");
+        TreeShaker.startMetadata(code, name);
+        code.append(",m:[1]");
+        TreeShaker.endMetadata(code);
+        code.append("}");
+        TreeShaker.endClass(code);
+
+        return code.toString();
+    }
+}
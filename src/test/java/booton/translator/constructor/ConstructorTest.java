@@ -279,6 +279,16 @@ public class ConstructorTest extends ScriptTester {
         }
     }
 
+    @Test
+    public void OverloadNested() {
+        test(new Scriptable() {
+
+            public String act(String value) {
+                return new Overload(new Overload(value, 2).toString(), new Overload(value).toString()).toString();
+            }
+        });
+    }
+
     @Test
     public void Extend1() {
         test(new Scriptable() {
@@ -0,0 +1,503 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator.flow;
+
+import org.junit.Test;
+
+import booton.soeur.Param;
+import booton.soeur.ScriptTester;
+import booton.soeur.Scriptable;
+
+/**
+ * <p>
+ * The large switch in loop (e.g. generated parser or state machine) has many paths, so the control
+ * flow analysis must not walk each path.
+ * </p>
+ * 
+ * @version 2026/10/18 14:40:12
+ */
+@SuppressWarnings("unused")
+public class StateMachineTest extends ScriptTester {
+
+    @Test
+    public void stateMachine() {
+        test(new Scriptable() {
+
+            public int act(@Param(from = 0, to = 10) int value) {
+                int state = 0;
+                int result = value;
+                int steps = 0;
+
+                while (state != -1 && steps++ < 200) {
+                    switch (state) {
+                    case 0:
+                        result += 1;
+                        state = result % 2 == 0 ? 1 : 3;
+                        break;
+
+                    case 1:
+                        for (int i = 0; i < 2; i++) {
+                            result += i;
+                        }
+                        state = 2;
+                        break;
+
+                    case 2:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 17;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 3;
+                        }
+                        break;
+
+                    case 3:
+                        while (result > 50) {
+                            result -= 10;
+                        }
+                        state = 4;
+                        continue;
+
+                    case 4:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 4;
+                        state = result % 5 == 0 ? -1 : 31;
+                        break;
+
+                    case 5:
+                        result += 6;
+                        state = result % 2 == 0 ? 6 : 38;
+                        break;
+
+                    case 6:
+                        for (int i = 0; i < 3; i++) {
+                            result += i;
+                        }
+                        state = 7;
+                        break;
+
+                    case 7:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 12;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 8;
+                        }
+                        break;
+
+                    case 8:
+                        while (result > 50) {
+                            result -= 15;
+                        }
+                        state = 9;
+                        continue;
+
+                    case 9:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 9;
+                        state = result % 5 == 0 ? -1 : 26;
+                        break;
+
+                    case 10:
+                        result += 11;
+                        state = result % 2 == 0 ? 11 : 33;
+                        break;
+
+                    case 11:
+                        for (int i = 0; i < 4; i++) {
+                            result += i;
+                        }
+                        state = 12;
+                        break;
+
+                    case 12:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 7;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 13;
+                        }
+                        break;
+
+                    case 13:
+                        while (result > 50) {
+                            result -= 20;
+                        }
+                        state = 14;
+                        continue;
+
+                    case 14:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 14;
+                        state = result % 5 == 0 ? -1 : 21;
+                        break;
+
+                    case 15:
+                        result += 16;
+                        state = result % 2 == 0 ? 16 : 28;
+                        break;
+
+                    case 16:
+                        for (int i = 0; i < 1; i++) {
+                            result += i;
+                        }
+                        state = 17;
+                        break;
+
+                    case 17:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 2;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 18;
+                        }
+                        break;
+
+                    case 18:
+                        while (result > 50) {
+                            result -= 25;
+                        }
+                        state = 19;
+                        continue;
+
+                    case 19:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 19;
+                        state = result % 5 == 0 ? -1 : 16;
+                        break;
+
+                    case 20:
+                        result += 21;
+                        state = result % 2 == 0 ? 21 : 23;
+                        break;
+
+                    case 21:
+                        for (int i = 0; i < 2; i++) {
+                            result += i;
+                        }
+                        state = 22;
+                        break;
+
+                    case 22:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 37;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 23;
+                        }
+                        break;
+
+                    case 23:
+                        while (result > 50) {
+                            result -= 30;
+                        }
+                        state = 24;
+                        continue;
+
+                    case 24:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 24;
+                        state = result % 5 == 0 ? -1 : 11;
+                        break;
+
+                    case 25:
+                        result += 26;
+                        state = result % 2 == 0 ? 26 : 18;
+                        break;
+
+                    case 26:
+                        for (int i = 0; i < 3; i++) {
+                            result += i;
+                        }
+                        state = 27;
+                        break;
+
+                    case 27:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 32;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 28;
+                        }
+                        break;
+
+                    case 28:
+                        while (result > 50) {
+                            result -= 35;
+                        }
+                        state = 29;
+                        continue;
+
+                    case 29:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 29;
+                        state = result % 5 == 0 ? -1 : 6;
+                        break;
+
+                    case 30:
+                        result += 31;
+                        state = result % 2 == 0 ? 31 : 13;
+                        break;
+
+                    case 31:
+                        for (int i = 0; i < 4; i++) {
+                            result += i;
+                        }
+                        state = 32;
+                        break;
+
+                    case 32:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 27;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 33;
+                        }
+                        break;
+
+                    case 33:
+                        while (result > 50) {
+                            result -= 40;
+                        }
+                        state = 34;
+                        continue;
+
+                    case 34:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 34;
+                        state = result % 5 == 0 ? -1 : 1;
+                        break;
+
+                    case 35:
+                        result += 36;
+                        state = result % 2 == 0 ? 36 : 8;
+                        break;
+
+                    case 36:
+                        for (int i = 0; i < 1; i++) {
+                            result += i;
+                        }
+                        state = 37;
+                        break;
+
+                    case 37:
+                        if (result % 3 == 0) {
+                            result /= 3;
+                            state = 22;
+                        } else {
+                            result = result * 2 % 97;
+                            state = 38;
+                        }
+                        break;
+
+                    case 38:
+                        while (result > 50) {
+                            result -= 45;
+                        }
+                        state = 39;
+                        continue;
+
+                    case 39:
+                        if (steps > 150) {
+                            return result;
+                        }
+                        result ^= 39;
+                        state = result % 5 == 0 ? -1 : 36;
+                        break;
+
+                    default:
+                        state = -1;
+                    }
+                }
+                return result * 1000 + steps;
+            }
+        });
+    }
+
+    @Test
+    public void nestedSwitchInLoop() {
+        test(new Scriptable() {
+
+            public int act(@Param(from = 0, to = 10) int value) {
+                int sum = value;
+
+                outer: for (int i = 0; i < value * 4; i++) {
+                    switch (i % 16) {
+                    case 0:
+                        sum += i;
+                        break;
+
+                    case 1:
+                        switch (sum % 3) {
+                        case 0:
+                            sum += 1;
+                            break;
+
+                        case 1:
+                            sum -= 1;
+                            break;
+
+                        default:
+                            sum *= 2;
+                        }
+                        break;
+
+                    case 2:
+                        for (int j = 0; j < i % 3; j++) {
+                            if (j == 1) {
+                                continue outer;
+                            }
+                            sum += j * 2;
+                        }
+                        break;
+
+                    case 3:
+                        if (sum > 1000) {
+                            break outer;
+                        }
+                        sum += sum % 3;
+                        break;
+
+                    case 4:
+                        sum += i + 4;
+                        break;
+
+                    case 5:
+                        switch (sum % 3) {
+                        case 0:
+                            sum += 5;
+                            break;
+
+                        case 1:
+                            sum -= 5;
+                            break;
+
+                        default:
+                            sum *= 2;
+                        }
+                        break;
+
+                    case 6:
+                        for (int j = 0; j < i % 3; j++) {
+                            if (j == 1) {
+                                continue outer;
+                            }
+                            sum += j * 6;
+                        }
+                        break;
+
+                    case 7:
+                        if (sum > 1000) {
+                            break outer;
+                        }
+                        sum += sum % 7;
+                        break;
+
+                    case 8:
+                        sum += i + 8;
+                        break;
+
+                    case 9:
+                        switch (sum % 3) {
+                        case 0:
+                            sum += 9;
+                            break;
+
+                        case 1:
+                            sum -= 9;
+                            break;
+
+                        default:
+                            sum *= 2;
+                        }
+                        break;
+
+                    case 10:
+                        for (int j = 0; j < i % 3; j++) {
+                            if (j == 1) {
+                                continue outer;
+                            }
+                            sum += j * 10;
+                        }
+                        break;
+
+                    case 11:
+                        if (sum > 1000) {
+                            break outer;
+                        }
+                        sum += sum % 11;
+                        break;
+
+                    case 12:
+                        sum += i + 12;
+                        break;
+
+                    case 13:
+                        switch (sum % 3) {
+                        case 0:
+                            sum += 13;
+                            break;
+
+                        case 1:
+                            sum -= 13;
+                            break;
+
+                        default:
+                            sum *= 2;
+                        }
+                        break;
+
+                    case 14:
+                        for (int j = 0; j < i % 3; j++) {
+                            if (j == 1) {
+                                continue outer;
+                            }
+                            sum += j * 14;
+                        }
+                        break;
+
+                    case 15:
+                        if (sum > 1000) {
+                            break outer;
+                        }
+                        sum += sum % 15;
+                        break;
+
+                    default:
+                        sum++;
+                    }
+                    sum++;
+                }
+                return sum;
+            }
+        });
+    }
+}
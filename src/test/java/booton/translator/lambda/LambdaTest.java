@@ -234,4 +234,30 @@ public class LambdaTest {
             return "test";
         }
     }
+
+    @Test
+    public void nonCapturingSingleton() throws Exception {
+        List<IntSupplier> suppliers = new ArrayList();
+
+        for (int i = 0; i < 3; i++) {
+            suppliers.add(() -> 10);
+        }
+        assert suppliers.get(0) == suppliers.get(1);
+        assert suppliers.get(1) == suppliers.get(2);
+        assert suppliers.get(2).getAsInt() == 10;
+    }
+
+    @Test
+    public void capturingInLoop() throws Exception {
+        List<IntSupplier> suppliers = new ArrayList();
+
+        for (int i = 0; i < 3; i++) {
+            int value = i * 10;
+            suppliers.add(() -> value);
+        }
+        assert suppliers.get(0) != suppliers.get(1);
+        assert suppliers.get(0).getAsInt() == 0;
+        assert suppliers.get(1).getAsInt() == 10;
+        assert suppliers.get(2).getAsInt() == 20;
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator.method;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import booton.BootonConfiguration;
+import booton.soeur.ScriptRunner;
+import kiss.I;
+
+/**
+ * <p>
+ * The trivial accessors are inlined while the classes in this test are compiled.
+ * </p>
+ * 
+ * @version 2026/10/18 11:48:30
+ */
+@RunWith(ScriptRunner.class)
+public class InlineAccessorTest {
+
+    /** The original configuration. */
+    private static boolean inlining;
+
+    @BeforeClass
+    public static void enable() {
+        BootonConfiguration config = I.make(BootonConfiguration.class);
+        inlining = config.inlining;
+        config.inlining = true;
+    }
+
+    @AfterClass
+    public static void restore() {
+        I.make(BootonConfiguration.class).inlining = inlining;
+    }
+
+    @Test
+    public void getter() {
+        Bean bean = new Bean();
+        bean.value = 10;
+
+        assert bean.getValue() == 10;
+        assert bean.getValue() + bean.getValue() == 20;
+    }
+
+    @Test
+    public void setter() {
+        Bean bean = new Bean();
+        bean.setValue(20);
+
+        assert bean.value == 20;
+        assert bean.getValue() == 20;
+    }
+
+    @Test
+    public void constant() {
+        Bean bean = new Bean();
+
+        assert bean.sizes() == 6;
+        assert bean.label().equals("bean:true");
+    }
+
+    @Test
+    public void constantWithOtherReceiver() {
+        Counter counter = new Counter();
+
+        // the receiver has side effect, so the constant must not drop it
+        assert counter.next().size() == 3;
+        assert counter.next().size() == 3;
+        assert counter.count == 2;
+    }
+
+    @Test
+    public void superCall() {
+        Child child = new Child();
+        child.value = 10;
+
+        assert child.getValue() == 11;
+        assert ((Parent) child).getValue() == 11;
+    }
+
+    @Test
+    public void staticCallFromSubclass() {
+        assert Child.total() == 6;
+    }
+
+    @Test
+    public void staticCallFromOtherClass() {
+        assert Parent.count() == 5;
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static final class Bean {
+
+        int value;
+
+        int getValue() {
+            return value;
+        }
+
+        void setValue(int value) {
+            this.value = value;
+        }
+
+        int size() {
+            return 3;
+        }
+
+        String name() {
+            return "bean";
+        }
+
+        boolean enabled() {
+            return true;
+        }
+
+        int sizes() {
+            return size() + size();
+        }
+
+        String label() {
+            return name() + ":" + enabled();
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static final class Counter {
+
+        int count;
+
+        Counter next() {
+            count++;
+
+            return this;
+        }
+
+        int size() {
+            return 3;
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static class Parent {
+
+        static int count = 5;
+
+        int value;
+
+        static int count() {
+            return count;
+        }
+
+        int getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * @version 2026/10/18 11:48:30
+     */
+    private static class Child extends Parent {
+
+        static int total() {
+            return count() + 1;
+        }
+
+        @Override
+        int getValue() {
+            return super.getValue() + 1;
+        }
+    }
+}
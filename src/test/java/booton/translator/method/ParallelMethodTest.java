@@ -0,0 +1,387 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package booton.translator.method;
+
+import java.util.function.IntSupplier;
+import java.util.function.ToIntFunction;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import booton.BootonConfiguration;
+import booton.soeur.ScriptRunner;
+import kiss.I;
+
+/**
+ * <p>
+ * The methods of the large class in this test are compiled in parallel.
+ * </p>
+ * 
+ * @version 2026/10/18 14:02:51
+ */
+@RunWith(ScriptRunner.class)
+public class ParallelMethodTest {
+
+    /** The original configuration. */
+    private static boolean parallel;
+
+    @BeforeClass
+    public static void enable() {
+        BootonConfiguration config = I.make(BootonConfiguration.class);
+        parallel = config.parallel;
+        config.parallel = true;
+    }
+
+    @AfterClass
+    public static void restore() {
+        I.make(BootonConfiguration.class).parallel = parallel;
+    }
+
+    @Test
+    public void expression() {
+        Large large = new Large();
+
+        assert large.m00(5) == 5;
+        assert large.m06(-3) == 3;
+        assert large.m30(1) == 31;
+    }
+
+    @Test
+    public void loop() {
+        Large large = new Large();
+
+        assert large.m01(0) == 1;
+        assert large.m07(5) == 17;
+        assert large.m31(5) == 41;
+    }
+
+    @Test
+    public void condition() {
+        Large large = new Large();
+
+        assert large.m02(-3) == 3;
+        assert large.m14(5) == 70;
+        assert large.m32(5) == 160;
+    }
+
+    @Test
+    public void switchToSibling() {
+        Large large = new Large();
+
+        assert large.m03(0) == 3;
+        assert large.m15(1) == 16;
+        assert large.m33(5) == 128;
+        assert large.m21(-3) == 4;
+    }
+
+    @Test
+    public void tryCatch() {
+        Large large = new Large();
+
+        assert large.m04(0) == 4;
+        assert large.m16(5) == 20;
+        assert large.m28(-3) == -33;
+    }
+
+    @Test
+    public void callSibling() {
+        Large large = new Large();
+
+        assert large.m05(5) == 6;
+        assert large.m17(1) == 14;
+        assert large.m29(-3) == 23;
+    }
+
+    @Test
+    public void lambda() {
+        Large large = new Large();
+
+        assert large.lambda(5) == 11;
+        assert large.capture(5) == 20;
+    }
+
+    /**
+     * @version 2026/10/18 14:02:51
+     */
+    private static class Large {
+
+        int m00(int value) {
+            return value + 0;
+        }
+
+        int m01(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 1;
+        }
+
+        int m02(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 2;
+        }
+
+        int m03(int value) {
+            switch (value) {
+            case 0:
+                return 3;
+
+            case 1:
+                return value + 3;
+
+            default:
+                return m02(value - 1);
+            }
+        }
+
+        int m04(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 4;
+            }
+        }
+
+        int m05(int value) {
+            return String.valueOf(value).length() + m00(value);
+        }
+
+        int m06(int value) {
+            return value + 6;
+        }
+
+        int m07(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 7;
+        }
+
+        int m08(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 8;
+        }
+
+        int m09(int value) {
+            switch (value) {
+            case 0:
+                return 9;
+
+            case 1:
+                return value + 9;
+
+            default:
+                return m08(value - 1);
+            }
+        }
+
+        int m10(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 10;
+            }
+        }
+
+        int m11(int value) {
+            return String.valueOf(value).length() + m06(value);
+        }
+
+        int m12(int value) {
+            return value + 12;
+        }
+
+        int m13(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 13;
+        }
+
+        int m14(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 14;
+        }
+
+        int m15(int value) {
+            switch (value) {
+            case 0:
+                return 15;
+
+            case 1:
+                return value + 15;
+
+            default:
+                return m14(value - 1);
+            }
+        }
+
+        int m16(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 16;
+            }
+        }
+
+        int m17(int value) {
+            return String.valueOf(value).length() + m12(value);
+        }
+
+        int m18(int value) {
+            return value + 18;
+        }
+
+        int m19(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 19;
+        }
+
+        int m20(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 20;
+        }
+
+        int m21(int value) {
+            switch (value) {
+            case 0:
+                return 21;
+
+            case 1:
+                return value + 21;
+
+            default:
+                return m20(value - 1);
+            }
+        }
+
+        int m22(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 22;
+            }
+        }
+
+        int m23(int value) {
+            return String.valueOf(value).length() + m18(value);
+        }
+
+        int m24(int value) {
+            return value + 24;
+        }
+
+        int m25(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 25;
+        }
+
+        int m26(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 26;
+        }
+
+        int m27(int value) {
+            switch (value) {
+            case 0:
+                return 27;
+
+            case 1:
+                return value + 27;
+
+            default:
+                return m26(value - 1);
+            }
+        }
+
+        int m28(int value) {
+            try {
+                return 100 / value;
+            } catch (ArithmeticException e) {
+                return 28;
+            }
+        }
+
+        int m29(int value) {
+            return String.valueOf(value).length() + m24(value);
+        }
+
+        int m30(int value) {
+            return value + 30;
+        }
+
+        int m31(int value) {
+            int sum = 0;
+
+            for (int i = 0; i < value; i++) {
+                sum += i;
+            }
+            return sum + 31;
+        }
+
+        int m32(int value) {
+            if (value < 0) {
+                return -value;
+            }
+            return value * 32;
+        }
+
+        int m33(int value) {
+            switch (value) {
+            case 0:
+                return 33;
+
+            case 1:
+                return value + 33;
+
+            default:
+                return m32(value - 1);
+            }
+        }
+
+        int lambda(int value) {
+            ToIntFunction<Integer> function = v -> v * 2 + 1;
+
+            return function.applyAsInt(value);
+        }
+
+        int capture(int value) {
+            IntSupplier supplier = () -> m20(value) / 10 + m06(value) - 1;
+
+            return supplier.getAsInt();
+        }
+    }
+}
@@ -98,6 +98,53 @@ public class InstanceOfTest extends ScriptTester {
         }
     }
 
+    @Test
+    public void InstanceOfSuperInterface() {
+        test(new Scriptable() {
+
+            public boolean act() {
+                Object value = new ArrayList();
+                return value instanceof Iterable;
+            }
+        });
+    }
+
+    @Test
+    public void InstanceOfInheritedInterface() {
+        test(new Child3());
+    }
+
+    private static class Child3 extends ValidInterface {
+
+        @Override
+        public boolean act() {
+            return this instanceof Scriptable;
+        }
+    }
+
+    @Test
+    public void InstanceOfLambda() {
+        test(new Scriptable() {
+
+            public boolean act() {
+                Object value = (Runnable) () -> {
+                };
+                return value instanceof Runnable && !(value instanceof List);
+            }
+        });
+    }
+
+    @Test
+    public void StringCharSequence() {
+        test(new Scriptable() {
+
+            public boolean act() {
+                Object value = "text";
+                return value instanceof CharSequence && value instanceof Comparable;
+            }
+        });
+    }
+
     @Test
     public void StringLiteral() {
         test(new Scriptable() {
@@ -160,6 +160,86 @@ public class LongTest extends ScriptTester {
         });
     }
 
+    @Test
+    public void widenAdd() {
+        test(new Scriptable() {
+
+            long act(int value) {
+                return (long) value + value + 1;
+            }
+        });
+    }
+
+    @Test
+    public void widenSubtract() {
+        test(new Scriptable() {
+
+            long act(int value) {
+                return -1L - value;
+            }
+        });
+    }
+
+    @Test
+    public void widenMultiply() {
+        test(new Scriptable() {
+
+            long act(int value) {
+                return value * 1000L;
+            }
+        });
+    }
+
+    @Test
+    public void widenMultiplyOverExact() {
+        test(new Scriptable() {
+
+            long act(int value) {
+                return (long) value * value * value;
+            }
+        });
+    }
+
+    @Test
+    public void widenNegate() {
+        test(new Scriptable() {
+
+            long act(int value) {
+                return -(long) value;
+            }
+        });
+    }
+
+    @Test
+    public void widenCompare() {
+        test(new Scriptable() {
+
+            boolean act(int value) {
+                return value < (long) value + 1;
+            }
+        });
+    }
+
+    @Test
+    public void widenToInt() {
+        test(new Scriptable() {
+
+            int act(int value) {
+                return (int) ((long) value * 3 + 7);
+            }
+        });
+    }
+
+    @Test
+    public void widenToDouble() {
+        test(new Scriptable() {
+
+            double act(int value) {
+                return (long) value - 5;
+            }
+        });
+    }
+
     @Test
     public void divide() {
         test(new Scriptable() {
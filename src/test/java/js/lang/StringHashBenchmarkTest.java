@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package js.lang;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import booton.soeur.ScriptRunner;
+
+/**
+ * <p>
+ * Compare the cached {@link String#hashCode()} with the direct computation on the script engine.
+ * Each measurement follows the warm-up iterations and takes the best of the measured iterations.
+ * </p>
+ * <p>
+ * The timing comparison depends on the machine load, so it is ignored in the regular build.
+ * </p>
+ *
+ * @version 2026/10/17 16:52:10
+ */
+@RunWith(ScriptRunner.class)
+public class StringHashBenchmarkTest {
+
+    /** The number of warm-up iterations. */
+    private static final int Warmup = 3;
+
+    /** The number of measured iterations. */
+    private static final int Measure = 5;
+
+    /** The number of hash operations in one iteration. */
+    private static final int Operations = 20;
+
+    /** The number of distinct strings. */
+    private static final int Size = 1000;
+
+    @Test
+    @Ignore
+    public void longString() {
+        String[] texts = new String[Size];
+
+        for (int i = 0; i < Size; i++) {
+            texts[i] = "client.cache.entry.identifier." + i;
+        }
+
+        long direct = measure(texts, false);
+        long cached = measure(texts, true);
+
+        assert cached <= direct;
+    }
+
+    /**
+     * <p>
+     * Measure the best time of hashing all strings.
+     * </p>
+     *
+     * @param texts A target strings.
+     * @param cached A hash mode.
+     * @return An elapsed time.
+     */
+    private long measure(String[] texts, boolean cached) {
+        long best = Long.MAX_VALUE;
+
+        for (int iteration = 0; iteration < Warmup + Measure; iteration++) {
+            long start = System.nanoTime();
+            int sum = 0;
+
+            for (int operation = 0; operation < Operations; operation++) {
+                for (String text : texts) {
+                    sum += cached ? text.hashCode() : hash(text);
+                }
+            }
+
+            long elapsed = System.nanoTime() - start;
+            assert sum != 1; // keep result alive
+
+            if (Warmup <= iteration) {
+                best = Math.min(best, elapsed);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * <p>
+     * Compute the hash without cache.
+     * </p>
+     *
+     * @param text A target string.
+     * @return A computed hash.
+     */
+    private int hash(String text) {
+        int hash = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash;
+    }
+}
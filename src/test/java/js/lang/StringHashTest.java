@@ -15,7 +15,7 @@ import org.junit.runner.RunWith;
 import booton.soeur.ScriptRunner;
 
 /**
- * @version 2013/12/02 11:28:37
+ * @version 2026/10/17 16:52:10
  */
 @RunWith(ScriptRunner.class)
 public class StringHashTest {
@@ -33,4 +33,41 @@ public class StringHashTest {
         int hash2 = "ABCDEFGHIJKLMNOPQRSTUVWXYZ2".hashCode();
         assert hash1 != hash2;
     }
+
+    @Test
+    public void javaCompatible() throws Exception {
+        assert "Aa".hashCode() == 2112;
+        assert "BB".hashCode() == 2112;
+        assert "ABCDEFGHIJKLMN1".hashCode() == 1603876906;
+        assert "\uD83D\uDE00 emoji text".hashCode() == 904794020;
+    }
+
+    @Test
+    public void cached() throws Exception {
+        String text = "ABCDEFGHIJKLMN" + 1;
+
+        assert text.hashCode() == 1603876906;
+        assert text.hashCode() == 1603876906;
+        assert "ABCDEFGHIJKLMN1".hashCode() == 1603876906;
+    }
+
+    @Test
+    public void builtinPropertyName() throws Exception {
+        assert "__proto__".hashCode() == 2139739112;
+        assert "__proto__".hashCode() == 2139739112;
+        assert "constructor".hashCode() == -1588406278;
+        assert "constructor".hashCode() == -1588406278;
+        assert "hasOwnProperty".hashCode() == -1789698943;
+        assert "hasOwnProperty".hashCode() == -1789698943;
+    }
+
+    @Test
+    public void overflowCache() throws Exception {
+        for (int i = 0; i < 10000; i++) {
+            String text = "ABCDEFGHIJKLMN" + i;
+            assert text.hashCode() == text.hashCode();
+        }
+        assert "ABCDEFGHIJKLMN1".hashCode() == 1603876906;
+    }
 }
+
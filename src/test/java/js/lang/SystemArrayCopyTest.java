@@ -35,4 +35,55 @@ public class SystemArrayCopyTest {
         assert copy[1] == "b";
         assert copy[2] == "c";
     }
+
+    @Test
+    public void primitive() throws Exception {
+        int[] source = {1, 2, 3};
+        int[] copy = new int[4];
+
+        System.arraycopy(source, 0, copy, 1, source.length);
+        assert copy[0] == 0;
+        assert copy[1] == 1;
+        assert copy[2] == 2;
+        assert copy[3] == 3;
+    }
+
+    @Test
+    public void overlapForward() throws Exception {
+        int[] values = {1, 2, 3, 4, 5};
+
+        System.arraycopy(values, 0, values, 1, 4);
+        assert values[0] == 1;
+        assert values[1] == 1;
+        assert values[2] == 2;
+        assert values[3] == 3;
+        assert values[4] == 4;
+    }
+
+    @Test
+    public void overlapBackward() throws Exception {
+        double[] values = {1, 2, 3, 4, 5};
+
+        System.arraycopy(values, 1, values, 0, 4);
+        assert values[0] == 2;
+        assert values[1] == 3;
+        assert values[2] == 4;
+        assert values[3] == 5;
+        assert values[4] == 5;
+    }
+
+    @Test
+    public void overlapObject() throws Exception {
+        Object[] values = {"a", "b", "c"};
+
+        System.arraycopy(values, 0, values, 1, 2);
+        assert values[0] == "a";
+        assert values[1] == "a";
+        assert values[2] == "b";
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() throws Exception {
+        System.arraycopy(new int[2], 0, new int[2], 1, 2);
+    }
 }
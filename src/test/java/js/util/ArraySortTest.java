@@ -54,6 +54,28 @@ public class ArraySortTest {
         assert array[2] == 3;
     }
 
+    @Test
+    public void integersNumerically() throws Exception {
+        int[] array = {10, 9, -1, 100};
+        Arrays.sort(array);
+
+        assert array[0] == -1;
+        assert array[1] == 9;
+        assert array[2] == 10;
+        assert array[3] == 100;
+    }
+
+    @Test
+    public void integersRange() throws Exception {
+        int[] array = {30, 20, 10, 0};
+        Arrays.sort(array, 1, 3);
+
+        assert array[0] == 30;
+        assert array[1] == 10;
+        assert array[2] == 20;
+        assert array[3] == 0;
+    }
+
     @Test
     public void doubles() throws Exception {
         double[] array = {2d, 3d, 1d};
@@ -74,6 +96,30 @@ public class ArraySortTest {
         assert array[2] == 3d;
     }
 
+    @Test
+    public void doublesSignedZero() throws Exception {
+        double[] array = {0d, -0d, 1d, -1d, 0d, -0d};
+        Arrays.sort(array);
+
+        assert array[0] == -1d;
+        assert array[1] == 0d && 1 / array[1] < 0;
+        assert array[2] == 0d && 1 / array[2] < 0;
+        assert array[3] == 0d && 0 < 1 / array[3];
+        assert array[4] == 0d && 0 < 1 / array[4];
+        assert array[5] == 1d;
+    }
+
+    @Test
+    public void floatsSignedZero() throws Exception {
+        float[] array = {0f, -0f, 0f, -0f};
+        Arrays.sort(array);
+
+        assert 1 / array[0] < 0;
+        assert 1 / array[1] < 0;
+        assert 0 < 1 / array[2];
+        assert 0 < 1 / array[3];
+    }
+
     /**
      * @version 2013/08/18 5:36:49
      */
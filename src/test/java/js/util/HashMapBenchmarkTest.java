@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package js.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import booton.soeur.ScriptRunner;
+import js.lang.NativeObject;
+
+/**
+ * <p>
+ * Compare {@link HashMap} with the legacy hash-keyed table which stores one entry per hash value.
+ * Each workload runs on the script engine and the bucketed table must not be much slower.
+ * </p>
+ * <p>
+ * The timing comparisons depend on the machine load, so they are ignored in the regular build.
+ * </p>
+ *
+ * @version 2026/10/17 16:20:45
+ */
+@RunWith(ScriptRunner.class)
+public class HashMapBenchmarkTest {
+
+    /** The number of entries. */
+    private static final int Size = 20000;
+
+    /** The allowed slowdown. */
+    private static final int Tolerance = 2;
+
+    @Test
+    public void stringKey() {
+        measure(new HashMap(), stringKeys());
+    }
+
+    @Test
+    public void integerKey() {
+        measure(new HashMap(), integerKeys());
+    }
+
+    @Test
+    @Ignore
+    public void stringKeyPerformance() {
+        String[] keys = stringKeys();
+
+        long legacy = measure(new Legacy(), keys);
+        long current = measure(new HashMap(), keys);
+
+        assert current <= legacy * Tolerance;
+    }
+
+    @Test
+    @Ignore
+    public void integerKeyPerformance() {
+        Integer[] keys = integerKeys();
+
+        long legacy = measure(new Legacy(), keys);
+        long current = measure(new HashMap(), keys);
+
+        assert current <= legacy * Tolerance;
+    }
+
+    @Test
+    public void collision() {
+        // "Aa" and "BB" have the same hash
+        Legacy legacy = new Legacy();
+        legacy.put("Aa", 1);
+        legacy.put("BB", 2);
+        assert legacy.size() == 1;
+
+        HashMap map = new HashMap();
+        map.put("Aa", 1);
+        map.put("BB", 2);
+        assert map.size() == 2;
+    }
+
+    /**
+     * <p>
+     * Create the string keys.
+     * </p>
+     *
+     * @return A key set.
+     */
+    private String[] stringKeys() {
+        String[] keys = new String[Size];
+
+        for (int i = 0; i < Size; i++) {
+            keys[i] = "key" + i;
+        }
+        return keys;
+    }
+
+    /**
+     * <p>
+     * Create the integer keys.
+     * </p>
+     *
+     * @return A key set.
+     */
+    private Integer[] integerKeys() {
+        Integer[] keys = new Integer[Size];
+
+        for (int i = 0; i < Size; i++) {
+            keys[i] = i * 31;
+        }
+        return keys;
+    }
+
+    /**
+     * <p>
+     * Put, get and iterate all keys.
+     * </p>
+     *
+     * @param map A target map.
+     * @param keys A key set.
+     * @return An elapsed time.
+     */
+    private long measure(Map map, Object[] keys) {
+        long start = System.nanoTime();
+
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], i);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            assert map.get(keys[i]) != null;
+        }
+
+        int count = 0;
+
+        for (Object key : map.keySet()) {
+            count++;
+        }
+        assert count == keys.length;
+
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * <p>
+     * The legacy table which is keyed by {@link Object#hashCode()} only.
+     * </p>
+     *
+     * @version 2026/10/17 16:20:45
+     */
+    private static class Legacy extends AbstractMap {
+
+        /** The hash-keyed entries. */
+        private final NativeObject items = new NativeObject();
+
+        /** The entry count. */
+        private int size;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object get(Object key) {
+            Entry entry = (Entry) items.getProperty(key.hashCode());
+
+            return entry == null ? null : entry.getValue();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object put(Object key, Object value) {
+            int hash = key.hashCode();
+
+            if (!items.hasProperty(hash)) {
+                size++;
+            }
+            items.setProperty(hash, new SimpleEntry(key, value));
+
+            return null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Set entrySet() {
+            return new AbstractSet() {
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                /**
+                 * {@inheritDoc}
+                 */
+                @Override
+                public Iterator iterator() {
+                    // materialize all keys as the legacy iteration does
+                    String[] keys = items.keys();
+
+                    return new Iterator() {
+
+                        private int index = 0;
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        @Override
+                        public boolean hasNext() {
+                            return index < keys.length;
+                        }
+
+                        /**
+                         * {@inheritDoc}
+                         */
+                        @Override
+                        public Object next() {
+                            return items.getProperty(keys[index++]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -294,4 +294,110 @@ public class HashMapTest extends ScriptTester {
             }
         });
     }
+
+    @Test
+    public void collidingKey() throws Exception {
+        test(new Scriptable() {
+
+            public int act() {
+                HashMap<Colliding, String> map = new HashMap();
+
+                for (int i = 0; i < 10; i++) {
+                    assert map.put(new Colliding(i), "value" + i) == null;
+                }
+                assert map.size() == 10;
+                assert map.get(new Colliding(3)).equals("value3");
+                assert map.put(new Colliding(3), "new") == "value3";
+                assert map.remove(new Colliding(0)) == "value0";
+                assert map.remove(new Colliding(9)) == "value9";
+                assert map.get(new Colliding(5)).equals("value5");
+                assert !map.containsKey(new Colliding(9));
+
+                return map.size();
+            }
+        });
+    }
+
+    @Test
+    public void prototypeKey() throws Exception {
+        test(new Scriptable() {
+
+            public int act() {
+                HashMap<String, String> map = new HashMap();
+                assert map.get("0") == null;
+                assert map.get("") == null;
+                assert !map.containsKey("0");
+                assert !map.containsKey("$");
+                assert map.remove("0") == null;
+                assert map.size() == 0;
+
+                assert map.put("0", "zero") == null;
+                assert map.put("$", "dollar") == null;
+                assert map.size() == 2;
+                assert map.get("0").equals("zero");
+                assert map.get("$").equals("dollar");
+                assert map.containsKey("0");
+                assert map.containsKey("$");
+
+                assert map.remove("0") == "zero";
+                assert map.remove("$") == "dollar";
+                assert !map.containsKey("0");
+                assert !map.containsKey("$");
+
+                return map.size();
+            }
+        });
+    }
+
+    @Test
+    public void insertionOrder() throws Exception {
+        test(new Scriptable() {
+
+            public String act() {
+                HashMap<Object, String> map = new HashMap();
+                map.put("c", "1");
+                map.put(2, "2");
+                map.put("a", "3");
+                map.put(1, "4");
+                map.remove("a");
+                map.put("a", "5");
+
+                StringBuilder builder = new StringBuilder();
+
+                for (Entry<Object, String> entry : map.entrySet()) {
+                    builder.append(entry.getKey()).append(entry.getValue());
+                }
+                return builder.toString();
+            }
+        });
+    }
+
+    /**
+     * @version 2026/10/17 16:20:45
+     */
+    private static class Colliding {
+
+        private final int value;
+
+        private Colliding(int value) {
+            this.value = value;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof Colliding && ((Colliding) object).value == value;
+        }
+    }
 }
+
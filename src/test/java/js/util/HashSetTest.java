@@ -189,4 +189,26 @@ public class HashSetTest extends ScriptTester {
             }
         });
     }
+
+    @Test
+    public void sameHash() throws Exception {
+        test(new Scriptable() {
+
+            int act() {
+                // "Aa" and "BB" have the same hash
+                Set<Object> set = new HashSet();
+                set.add("Aa");
+                set.add("BB");
+
+                assert set.contains("Aa");
+                assert set.contains("BB");
+                assert set.remove("Aa");
+                assert !set.contains("Aa");
+                assert set.contains("BB");
+
+                return set.size();
+            }
+        });
+    }
 }
+
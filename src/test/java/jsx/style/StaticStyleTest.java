@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package jsx.style;
+
+import org.junit.Test;
+
+/**
+ * @version 2026/10/17 21:10:48
+ */
+public class StaticStyleTest extends StyleTester {
+
+    @Test
+    public void extract() {
+        Style style = () -> {
+            display.block();
+
+            hover(() -> {
+                text.decoration.underline();
+            });
+        };
+
+        StaticStyle.register(style, "static1");
+        assert style.name().equals("static1");
+        assert StaticStyle.contains(style);
+        assert StaticStyle.extract(style).equals(".static1{display:block;}.static1:hover{text-decoration:underline;}");
+
+        StaticStyle.unregister(style);
+        assert !StaticStyle.contains(style);
+    }
+
+    @Test
+    public void referStaticStyle() {
+        Style base = () -> {
+            display.block();
+        };
+
+        Style style = () -> {
+            with(base, () -> {
+                display.none();
+            });
+        };
+
+        StaticStyle.register(base, "static2");
+        StaticStyle.register(style, "static3");
+        assert StaticStyle.extract(style) != null;
+
+        StaticStyle.unregister(base);
+        StaticStyle.unregister(style);
+    }
+
+    @Test
+    public void referDynamicStyle() {
+        Style dynamic = () -> {
+            display.block();
+        };
+
+        Style style = () -> {
+            with(dynamic, () -> {
+                display.none();
+            });
+        };
+
+        StaticStyle.register(style, "static4");
+        assert StaticStyle.extract(style) == null;
+
+        StaticStyle.unregister(style);
+    }
+
+    @Test
+    public void failedStyle() {
+        Style failed = () -> {
+            display.block();
+
+            throw new IllegalStateException();
+        };
+
+        Style style = () -> {
+            display.none();
+        };
+
+        StaticStyle.register(failed, "static5");
+        StaticStyle.register(style, "static6");
+
+        try {
+            StaticStyle.extract(failed);
+            assert false;
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assert StaticStyle.extract(style).equals(".static6{display:none;}");
+
+        StaticStyle.unregister(failed);
+        StaticStyle.unregister(style);
+    }
+}
@@ -142,6 +142,18 @@ public class DiffElementTest extends DiffTestBase {
         assertDiff(root("a", "b", "c", "d"), root("b", "d", "c", "a"), 2);
     }
 
+    @Test
+    public void childMoveToHead() throws Exception {
+        assertDiff(root("a", "b", "c", "d"), root("d", "a", "b", "c"), 1);
+        assertDiff(root("a", "b", "c", "d", "e"), root("0", "e", "b", "c", "d"), 3);
+    }
+
+    @Test
+    public void childSameIdentifier() throws Exception {
+        assertDiff(root("a", "a", "b"), root("b", "a", "a"), 1);
+        assertDiff(root("a", "b", "a"), root("a", "a"), 1);
+    }
+
     @Test
     public void childReplace() {
         assertDiff(root("a"), root("1"), 1);
@@ -162,7 +174,7 @@ public class DiffElementTest extends DiffTestBase {
 
     @Test
     public void childComplexOperation3() throws Exception {
-        assertDiff(root("a", "b", "c"), root("0", "b", "1", "a", "c"), 4);
+        assertDiff(root("a", "b", "c"), root("0", "b", "1", "a", "c"), 3);
     }
 
     @Test
@@ -177,7 +189,7 @@ public class DiffElementTest extends DiffTestBase {
 
     @Test
     public void childComplexOperation6() {
-        assertDiff(root("a", "b", "c"), root("0", "b", "1", "a", "2", "c"), 5);
+        assertDiff(root("a", "b", "c"), root("0", "b", "1", "a", "2", "c"), 4);
     }
 
     @Test
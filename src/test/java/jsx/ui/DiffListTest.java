@@ -9,6 +9,7 @@
  */
 package jsx.ui;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -64,6 +65,59 @@ public class DiffListTest extends DiffTestBase {
         assertDiff(prev, next, 2);
     }
 
+    @Test
+    public void reuseUnchangedWidget() {
+        List<String> items = Arrays.asList("1", "2");
+        Widget widget = make(DSLWidget.class, () -> {
+            box(style, contents(items, FixedBox::new));
+        });
+
+        VirtualWidget prev = createWidget(widget);
+        prev.materialize();
+        widget.virtual = prev;
+        VirtualWidget next = createWidget(widget);
+
+        VirtualElement prevBox = (VirtualElement) prev.items.get(0);
+        VirtualElement nextBox = (VirtualElement) next.items.get(0);
+        assert prevBox != nextBox;
+        assert prevBox.items.get(0) == nextBox.items.get(0);
+        assert prevBox.items.get(1) == nextBox.items.get(1);
+        assert PatchDiff.diff(prev, next).size() == 0;
+
+        // the reused structure survives the disposal of the previous structure
+        prev.dispose();
+        assert nextBox.items.get(0).dom != null;
+    }
+
+    @Test
+    public void rebuildWidgetWithModifiedDescendant() {
+        Person person = new Person();
+        person.setName("Asagi");
+
+        Widget widget = make(DSLWidget.class, () -> {
+            box(style, contents(Arrays.asList(person), OuterBox::new));
+        });
+
+        VirtualWidget prev = createWidget(widget);
+        prev.materialize();
+        widget.virtual = prev;
+
+        VirtualWidget prevOuter = (VirtualWidget) ((VirtualElement) prev.items.get(0)).items.get(0);
+        VirtualWidget prevInner = (VirtualWidget) ((VirtualElement) prevOuter.items.get(0)).items.get(0);
+
+        // the nested widget updates its view, but the outer widget has nothing to change
+        person.setName("Yuigahama");
+        prevInner.widget.modified = true;
+
+        VirtualWidget next = createWidget(widget);
+        VirtualWidget nextOuter = (VirtualWidget) ((VirtualElement) next.items.get(0)).items.get(0);
+        VirtualWidget nextInner = (VirtualWidget) ((VirtualElement) nextOuter.items.get(0)).items.get(0);
+
+        assert prevOuter != nextOuter;
+        assert prevInner != nextInner;
+        assert PatchDiff.diff(prev, next).size() == 1;
+    }
+
     /**
      * <p>
      * Create structure for single box list.
@@ -197,6 +251,138 @@ public class DiffListTest extends DiffTestBase {
         }
     }
 
+    @Test
+    public void windowedContents() {
+        List<Integer> items = new ArrayList();
+
+        for (int i = 0; i < 100000; i++) {
+            items.add(i);
+        }
+        Viewport<Integer> viewport = new Viewport(20);
+
+        VirtualWidget widget = make(() -> {
+            box(style, contents(items, viewport, item -> {
+                text(style, item);
+            }));
+        });
+
+        VirtualElement box = (VirtualElement) widget.items.get(0);
+        assert viewport.start == 0;
+        assert viewport.end < 100;
+        assert box.items.length() == viewport.end - viewport.start + 2;
+    }
+
+    /**
+     * @version 2026/10/17 19:40:12
+     */
+    private static class FixedBox extends Widget<StyleDSL> {
+
+        private String text;
+
+        /**
+         * @param text
+         */
+        private FixedBox(String text) {
+            super(text);
+
+            this.text = text;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean shouldUpdate() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void virtualize() {
+            new StructureDSL() {
+                {
+                    text(style, text);
+                }
+            };
+        }
+    }
+
+    /**
+     * @version 2026/10/18 12:31:05
+     */
+    private static class OuterBox extends Widget<StyleDSL> {
+
+        private Person person;
+
+        /**
+         * @param person
+         */
+        private OuterBox(Person person) {
+            super(person);
+
+            this.person = person;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean shouldUpdate() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void virtualize() {
+            new StructureDSL() {
+                {
+                    box(style, contents(Arrays.asList(person), InnerBox::new));
+                }
+            };
+        }
+    }
+
+    /**
+     * @version 2026/10/18 12:31:05
+     */
+    private static class InnerBox extends Widget<StyleDSL> {
+
+        private Person person;
+
+        /**
+         * @param person
+         */
+        private InnerBox(Person person) {
+            super(person);
+
+            this.person = person;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean shouldUpdate() {
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void virtualize() {
+            new StructureDSL() {
+                {
+                    text(style, person.getName());
+                }
+            };
+        }
+    }
+
     /**
      * <p>
      * Create structure for bean box list.
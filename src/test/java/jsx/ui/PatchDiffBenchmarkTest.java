@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package jsx.ui;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import booton.soeur.ScriptRunner;
+import jsx.ui.Patch.MoveChild;
+
+/**
+ * <p>
+ * Reconcile the large list of rows on the script engine. The keyed diff must produce the minimal
+ * moves.
+ * </p>
+ *
+ * @version 2026/10/17 19:05:32
+ */
+@RunWith(ScriptRunner.class)
+public class PatchDiffBenchmarkTest {
+
+    /** The number of rows. */
+    private static final int Size = 10000;
+
+    @Test
+    public void shuffle() {
+        List<Patch> patches = PatchDiff.diff(null, rows(sequence(Size)), rows(shuffle(Size)));
+
+        assert patches.size() < Size;
+
+        for (Patch patch : patches) {
+            assert patch instanceof MoveChild;
+        }
+    }
+
+    @Test
+    public void moveToHead() {
+        int[] order = new int[Size];
+        order[0] = Size - 1;
+
+        for (int i = 1; i < Size; i++) {
+            order[i] = i - 1;
+        }
+        assert PatchDiff.diff(null, rows(sequence(Size)), rows(order)).size() == 1;
+    }
+
+    @Test
+    public void reverse() {
+        int[] order = new int[Size];
+
+        for (int i = 0; i < Size; i++) {
+            order[i] = Size - 1 - i;
+        }
+        assert PatchDiff.diff(null, rows(sequence(Size)), rows(order)).size() == Size - 1;
+    }
+
+    /**
+     * <p>
+     * Create the ordered row identifiers.
+     * </p>
+     *
+     * @param size The number of rows.
+     * @return A created identifiers.
+     */
+    private int[] sequence(int size) {
+        int[] order = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * <p>
+     * Create the shuffled row identifiers.
+     * </p>
+     *
+     * @param size The number of rows.
+     * @return A created identifiers.
+     */
+    private int[] shuffle(int size) {
+        int[] order = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            // 7919 is prime, so this is the permutation
+            order[i] = i * 7919 % size;
+        }
+        return order;
+    }
+
+    /**
+     * <p>
+     * Create the list element.
+     * </p>
+     *
+     * @param order A row identifiers.
+     * @return A created element.
+     */
+    private VirtualElement rows(int[] order) {
+        VirtualElement list = new VirtualElement(0, "list", null);
+
+        for (int id : order) {
+            list.items.push(new VirtualElement(id, "row", null));
+        }
+        return list;
+    }
+}
@@ -12,6 +12,7 @@ package jsx.ui;
 import static jsx.ui.StructureDSL.*;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import javafx.beans.property.IntegerProperty;
@@ -204,7 +205,7 @@ public class ReferenceCheckTest {
             hasNoReference();
 
             // create real DOM from previous
-            PatchDiff.apply(previous.root, root);
+            apply(previous.root, root);
 
             // all nodes accept the reference
             hasReference();
@@ -213,6 +214,23 @@ public class ReferenceCheckTest {
             previous.hasNoReference();
         }
 
+        /**
+         * <p>
+         * Helper method to diff elements and apply patches.
+         * </p>
+         * 
+         * @param prev A previouse state.
+         * @param next A next state.
+         */
+        private void apply(VirtualElement prev, VirtualElement next) {
+            List<Patch> diff = PatchDiff.diff(prev, next);
+
+            for (int i = 0; i < diff.size(); i++) {
+                diff.get(i).apply();
+            }
+            prev.dispose();
+        }
+
         /**
          * Collect all {@link VirtualNode} recursively.
          */
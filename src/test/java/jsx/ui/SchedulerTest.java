@@ -0,0 +1,291 @@
+/*
+ * Copyright (C) 2016 Nameless Production Committee
+ *
+ * Licensed under the MIT License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://opensource.org/licenses/mit-license.php
+ */
+package jsx.ui;
+
+import static js.lang.Global.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import js.lang.Global;
+import js.lang.NativePerformance;
+import jsx.style.StyleDSL;
+
+/**
+ * <p>
+ * The frames are driven manually on the stubbed clock, the rendering of each widget takes the
+ * specified time.
+ * </p>
+ *
+ * @version 2026/10/18 15:12:37
+ */
+public class SchedulerTest {
+
+    /** The requested frames. */
+    private static final Deque<Runnable> frames = new ArrayDeque();
+
+    /** The rendered widgets in order. */
+    private static final List<String> rendered = new ArrayList();
+
+    /** The widgets in the viewport. */
+    private static final Set<String> visibles = new HashSet();
+
+    /** The current time (ms). */
+    private static double time;
+
+    /** The original frame requester. */
+    private Consumer<Runnable> frame;
+
+    /** The original viewport checker. */
+    private Predicate<Widget> visible;
+
+    /** The original clock. */
+    private NativePerformance performance;
+
+    @Before
+    public void stub() {
+        frame = Scheduler.frame;
+        visible = Scheduler.visible;
+        performance = Global.performance;
+
+        Scheduler.frame = frames::add;
+        Scheduler.visible = widget -> visibles.contains(((Probe) widget).name);
+        Global.performance = new NativePerformance() {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public double now() {
+                return time;
+            }
+        };
+        Scheduler.budget(8);
+
+        frames.clear();
+        rendered.clear();
+        visibles.clear();
+        time = 0;
+    }
+
+    @After
+    public void restore() {
+        // complete the remaining rendering
+        Scheduler.budget(Double.MAX_VALUE);
+
+        while (!frames.isEmpty()) {
+            frames.poll().run();
+        }
+
+        Scheduler.frame = frame;
+        Scheduler.visible = visible;
+        Global.performance = performance;
+        Scheduler.budget(8);
+    }
+
+    @Test
+    public void budget() {
+        Probe one = new Probe("one", 5);
+        Probe two = new Probe("two", 5);
+        Probe three = new Probe("three", 5);
+        one.render();
+        two.render();
+        three.render();
+        assert frames.size() == 1;
+
+        // the third widget exceeds the budget of the first frame
+        frame();
+        assertRendered("one", "two");
+        assert one.isPatched();
+        assert !two.isPatched();
+        assert !three.isPatched();
+        assert frames.size() == 1;
+
+        // the remaining units are continued on the next frame
+        frame();
+        assertRendered("one", "two", "three");
+        assert two.isPatched();
+        assert three.isPatched();
+        assert frames.isEmpty();
+    }
+
+    @Test
+    public void coalesce() {
+        Probe one = new Probe("one", 0);
+        one.render();
+        one.update();
+        one.update();
+        assert frames.size() == 1;
+
+        frame();
+        assertRendered("one");
+        assert frames.isEmpty();
+
+        // the widget is scheduled again after its rendering starts
+        one.update();
+        frame();
+        assertRendered("one", "one");
+    }
+
+    @Test
+    public void input() {
+        Probe one = new Probe("one", 0);
+        Probe two = new Probe("two", 0);
+        Probe three = new Probe("three", 0);
+        one.render();
+        two.render();
+
+        Scheduler.input = true;
+
+        try {
+            // the new widget and the scheduled widget are both promoted
+            three.render();
+            two.update();
+        } finally {
+            Scheduler.input = false;
+        }
+
+        frame();
+        assertRendered("three", "two", "one");
+    }
+
+    @Test
+    public void viewport() {
+        Probe one = new Probe("one", 0);
+        Probe two = new Probe("two", 0);
+        Probe three = new Probe("three", 0);
+        Probe four = new Probe("four", 0);
+        one.render();
+        two.render();
+        three.render();
+        four.render();
+
+        // the visible widgets go first with keeping their order
+        visibles.add("two");
+        visibles.add("four");
+
+        frame();
+        assertRendered("two", "four", "one", "three");
+    }
+
+    @Test
+    public void inputBeforeViewport() {
+        Probe one = new Probe("one", 0);
+        Probe two = new Probe("two", 0);
+        one.render();
+
+        Scheduler.input = true;
+
+        try {
+            two.render();
+        } finally {
+            Scheduler.input = false;
+        }
+
+        visibles.add("one");
+
+        frame();
+        assertRendered("two", "one");
+    }
+
+    /**
+     * <p>
+     * Run the requested frame.
+     * </p>
+     */
+    private void frame() {
+        assert !frames.isEmpty();
+
+        frames.poll().run();
+    }
+
+    /**
+     * <p>
+     * Assert the rendered widgets in order.
+     * </p>
+     *
+     * @param names A list of widget names.
+     */
+    private void assertRendered(String... names) {
+        assert rendered.equals(Arrays.asList(names)) : rendered;
+    }
+
+    /**
+     * @version 2026/10/18 15:12:37
+     */
+    private static class Probe extends Widget<StyleDSL> {
+
+        /** The widget name. */
+        private final String name;
+
+        /** The rendering time (ms). */
+        private final double cost;
+
+        /** The initial virtual structure. */
+        private VirtualElement initial;
+
+        /**
+         * @param name The widget name.
+         * @param cost The rendering time (ms).
+         */
+        private Probe(String name, double cost) {
+            this.name = name;
+            this.cost = cost;
+        }
+
+        /**
+         * <p>
+         * Render this widget on the new element.
+         * </p>
+         */
+        private void render() {
+            renderIn(document.createElement("div"));
+
+            initial = virtual;
+        }
+
+        /**
+         * <p>
+         * Check whether the patches of this widget are applied or not.
+         * </p>
+         *
+         * @return A result.
+         */
+        private boolean isPatched() {
+            return virtual != initial;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void virtualize() {
+            rendered.add(name);
+            time += cost;
+
+            new StructureDSL() {
+                {
+                    text(name);
+                }
+            };
+        }
+    }
+}